@@ -0,0 +1,28 @@
+package com.Scholar.GetScholar.Database;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Flat, unmanaged row for the applicant export; never enters the persistence context
+@Data
+@AllArgsConstructor
+public class ApplicationExportRow {
+    private Long id;
+    private String fullName;
+    private String email;
+    private String phoneNumber;
+    private LocalDate dateOfBirth;
+    private String gender;
+    private String nationality;
+    private String currentInstitution;
+    private String courseName;
+    private String yearOfStudy;
+    private Double academicPercentage;
+    private Double familyIncome;
+    private String status;
+    private LocalDateTime createdAt;
+    private LocalDateTime reviewedAt;
+}
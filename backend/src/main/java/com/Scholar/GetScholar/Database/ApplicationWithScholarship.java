@@ -0,0 +1,22 @@
+package com.Scholar.GetScholar.Database;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Applicant-facing row for /my-applications, built in one joined query
+@Data
+@AllArgsConstructor
+public class ApplicationWithScholarship {
+    private Long id;
+    private Long scholarshipId;
+    private String fullName;
+    private String email;
+    private String status;
+    private LocalDateTime createdAt;
+    private String reviewComments;
+    private String scholarshipTitle;
+    private String organizationName;
+    private Double amount;
+}
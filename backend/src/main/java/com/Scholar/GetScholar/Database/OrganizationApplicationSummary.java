@@ -0,0 +1,21 @@
+package com.Scholar.GetScholar.Database;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// One row of the organization dashboard, projected directly from the
+// applications/scholarships join
+@Data
+@AllArgsConstructor
+public class OrganizationApplicationSummary {
+    private Long applicationId;
+    private Long scholarshipId;
+    private String applicantName;
+    private String applicantEmail;
+    private String status;
+    private LocalDateTime createdAt;
+    private String scholarshipTitle;
+    private Double amount;
+}
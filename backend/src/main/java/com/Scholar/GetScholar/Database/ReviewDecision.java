@@ -0,0 +1,11 @@
+package com.Scholar.GetScholar.Database;
+
+import lombok.Data;
+
+// One entry of a batch review request
+@Data
+public class ReviewDecision {
+    private Long id;
+    private String status;
+    private String comments;
+}
@@ -0,0 +1,17 @@
+package com.Scholar.GetScholar.Database;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Per-item outcome of a batch review, in request order
+@Data
+@AllArgsConstructor
+public class ReviewResult {
+
+    public enum Outcome { UPDATED, INVALID, NOT_FOUND, FORBIDDEN, NO_SLOTS, CONFLICT }
+
+    private Long id;
+    private Outcome outcome;
+    private String status;
+    private String error;
+}
@@ -0,0 +1,15 @@
+package com.Scholar.GetScholar.Database;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// What a batch review needs to know about an application: its current status
+// and who owns the scholarship it belongs to
+@Data
+@AllArgsConstructor
+public class ReviewTarget {
+    private Long applicationId;
+    private Long scholarshipId;
+    private String status;
+    private String owner;
+}
@@ -1,5 +1,7 @@
 package com.Scholar.GetScholar.Database;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.Data;
@@ -50,7 +52,9 @@ public class Scholarship {
     @Column(name = "min_percentage")
     private Double minPercentage;
 
-    @Column(name = "available_slots")
+    // Changed only by relative UPDATEs (ScholarshipRepository), never by merging
+    // an entity, so an owner's edit cannot overwrite slots that reviews just took
+    @Column(name = "available_slots", updatable = false)
     private Integer availableSlots;
 
     @Column(name = "category")
@@ -69,6 +73,11 @@ public class Scholarship {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Filled in for the owner's listings only, from scholarship_application_stats
+    @Transient
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ScholarshipStats applicationStats;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
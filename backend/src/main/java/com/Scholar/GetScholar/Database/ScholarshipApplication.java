@@ -1,5 +1,7 @@
 package com.Scholar.GetScholar.Database;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.Data;
@@ -10,9 +12,13 @@ import java.util.List;
 
 @Data
 @Entity
-@Table(name = "scholarship_applications")
+@Table(name = "scholarship_applications", uniqueConstraints = @UniqueConstraint(
+    name = ScholarshipApplication.UNIQUE_APPLICANT_SCHOLARSHIP,
+    columnNames = {"applicant_username", "scholarship_id"}))
 public class ScholarshipApplication {
 
+    public static final String UNIQUE_APPLICANT_SCHOLARSHIP = "uq_applications_applicant_scholarship";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -90,6 +96,8 @@ public class ScholarshipApplication {
     @Column(name = "reason_for_applying", length = 1000, nullable = false)
     private String reasonForApplying;
 
+    // Only DocumentStore.attach adds refs; a submitted list would grant its hashes
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     @ElementCollection
     @CollectionTable(
         name = "application_documents", 
@@ -122,6 +130,11 @@ public class ScholarshipApplication {
     @Column(name = "created_by")
     private String createdBy;
 
+    // Set when the application arrived through the asynchronous intake queue
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "intake_tracking_id", length = 36, unique = true)
+    private String intakeTrackingId;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
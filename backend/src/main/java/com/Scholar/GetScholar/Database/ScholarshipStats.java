@@ -0,0 +1,33 @@
+package com.Scholar.GetScholar.Database;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "scholarship_application_stats")
+public class ScholarshipStats {
+
+    @Id
+    @Column(name = "scholarship_id")
+    private Long scholarshipId;
+
+    @Column(name = "submitted", nullable = false)
+    private long submitted;
+
+    @Column(name = "approved", nullable = false)
+    private long approved;
+
+    @Column(name = "rejected", nullable = false)
+    private long rejected;
+
+    public ScholarshipStats(Long scholarshipId) {
+        this.scholarshipId = scholarshipId;
+    }
+
+    public long getTotal() {
+        return submitted + approved + rejected;
+    }
+}
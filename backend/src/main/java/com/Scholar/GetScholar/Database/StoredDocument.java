@@ -0,0 +1,12 @@
+package com.Scholar.GetScholar.Database;
+
+// A document in the content-addressed store; ref is what an application's
+// documentsSubmitted holds for it
+public record StoredDocument(String sha256, long sizeBytes, String contentType) {
+
+    public static final String REF_PREFIX = "sha256:";
+
+    public String ref() {
+        return REF_PREFIX + sha256;
+    }
+}
@@ -27,6 +27,10 @@ public class UserDetail implements UserDetails{
     private String email;
 
     private String password;
+
+    // Bumped to revoke every token issued before the change
+    @Column(name = "token_version", columnDefinition = "integer not null default 0")
+    private int tokenVersion;
     
 
     public UserDetail() {
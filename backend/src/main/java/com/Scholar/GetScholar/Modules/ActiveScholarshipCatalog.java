@@ -0,0 +1,242 @@
+package com.Scholar.GetScholar.Modules;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.Scholar.GetScholar.ScholarshipRepository;
+import com.Scholar.GetScholar.Database.Scholarship;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+// Read-optimized, in-process copy of GET /api/scholarships. Each snapshot is
+// immutable and swapped atomically; every entry is serialized once when it
+// enters the catalog so serving a page is a byte copy, not a Jackson pass.
+@Component
+public class ActiveScholarshipCatalog {
+
+    private static final Log logger = LogFactory.getLog(ActiveScholarshipCatalog.class);
+
+    // Same order as the repository: created_at DESC, id DESC
+    static final Comparator<Scholarship> CATALOG_ORDER = Comparator
+        .comparing(Scholarship::getCreatedAt, Comparator.reverseOrder())
+        .thenComparing(Scholarship::getId, Comparator.reverseOrder());
+
+    @Autowired
+    private ScholarshipRepository scholarshipRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    private final AtomicLong mutations = new AtomicLong();
+    // Single-flight for reloads; a lock rather than a monitor so that virtual
+    // threads waiting on the first load do not pin their carriers
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    public record Entry(Scholarship scholarship, byte[] json, long checksum) {}
+
+    public record Snapshot(LocalDate day, List<Entry> entries, long contentHash) {}
+
+    // The ETag is known without touching the entries; the body is only built
+    // for a caller that did not already have it
+    public record Page(List<Entry> entries, String etag, KeysetCursor nextCursor) {
+        public byte[] body() {
+            return toJsonArray(entries);
+        }
+    }
+
+    // A snapshot from an earlier day (after midnight, or while reloads fail) is
+    // reloaded by one caller at a time; everyone else keeps being served from it,
+    // minus the entries whose deadline has passed since
+    public Snapshot snapshot() {
+        Snapshot snapshot = current.get();
+        LocalDate today = LocalDate.now();
+        if (snapshot != null && snapshot.day().equals(today)) {
+            return snapshot;
+        }
+        if (snapshot == null) {
+            // Nothing to serve yet, so wait for whoever is loading
+            reloadLock.lock();
+        } else if (!reloadLock.tryLock()) {
+            return unexpired(snapshot, today);
+        }
+        try {
+            snapshot = current.get();
+            if (snapshot == null || !snapshot.day().equals(today)) {
+                reload();
+                snapshot = current.get();
+            }
+        } finally {
+            reloadLock.unlock();
+        }
+        return snapshot.day().equals(today) ? snapshot : unexpired(snapshot, today);
+    }
+
+    public Page page(KeysetCursor cursor, int limit) {
+        Snapshot snapshot = snapshot();
+        List<Entry> entries = snapshot.entries();
+        int from = cursor == null ? 0 : firstAfter(entries, cursor.createdAt(), cursor.id());
+        int to = Math.min(entries.size(), from + limit);
+
+        KeysetCursor next = null;
+        if (to < entries.size() && to > from) {
+            Scholarship last = entries.get(to - 1).scholarship();
+            next = new KeysetCursor(last.getCreatedAt(), last.getId());
+        }
+        String etag = "\"" + Long.toHexString(snapshot.contentHash()) + "-" + from + "-" + limit + "\"";
+        return new Page(entries.subList(from, to), etag, next);
+    }
+
+    // Concatenates the pre-serialized entries into one JSON array
+    public static byte[] toJsonArray(List<Entry> entries) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.write('[');
+        for (int i = 0; i < entries.size(); i++) {
+            if (i > 0) {
+                body.write(',');
+            }
+            body.writeBytes(entries.get(i).json());
+        }
+        body.write(']');
+        return body.toByteArray();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScholarshipChanged(ScholarshipChangedEvent event) {
+        upsert(event.scholarship());
+    }
+
+    // Incremental path for a single created/updated scholarship
+    public void upsert(Scholarship scholarship) {
+        byte[] json = serialize(scholarship);
+        mutations.incrementAndGet();
+        current.updateAndGet(snapshot -> {
+            if (snapshot == null) {
+                return null;
+            }
+            List<Entry> entries = new ArrayList<>(snapshot.entries().size() + 1);
+            long hash = snapshot.contentHash();
+            for (Entry entry : snapshot.entries()) {
+                if (entry.scholarship().getId().equals(scholarship.getId())) {
+                    hash ^= entry.checksum();
+                } else {
+                    entries.add(entry);
+                }
+            }
+            if (isListed(scholarship, snapshot.day())) {
+                Entry added = entry(scholarship, json);
+                entries.add(firstAfter(entries, scholarship.getCreatedAt(), scholarship.getId()), added);
+                hash ^= added.checksum();
+            }
+            return new Snapshot(snapshot.day(), List.copyOf(entries), hash);
+        });
+    }
+
+    // Full rebuild: at startup, at midnight when deadlines lapse, and periodically to
+    // pick up writes made on other instances
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 0 * * *")
+    @Scheduled(fixedDelayString = "${catalog.refresh-ms:60000}", initialDelayString = "${catalog.refresh-ms:60000}")
+    public void reload() {
+        reloadLock.lock();
+        try {
+            // Retry if an incremental update raced with the load, so it is not lost
+            for (int attempt = 0; attempt < 3; attempt++) {
+                long seen = mutations.get();
+                LocalDate today = LocalDate.now();
+                List<Entry> entries = new ArrayList<>();
+                for (Scholarship scholarship : scholarshipRepository
+                        .findByStatusAndApplicationDeadlineAfterOrderByCreatedAtDesc("ACTIVE", today)) {
+                    entries.add(entry(scholarship, serialize(scholarship)));
+                }
+                entries.sort((a, b) -> CATALOG_ORDER.compare(a.scholarship(), b.scholarship()));
+                long hash = 0;
+                for (Entry entry : entries) {
+                    hash ^= entry.checksum();
+                }
+                current.set(new Snapshot(today, List.copyOf(entries), hash));
+                if (mutations.get() == seen) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("Scholarship catalog reload failed: " + e.getMessage());
+            if (current.get() == null) {
+                throw e;
+            }
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    // Same day as the stale snapshot, so the next caller still tries to reload
+    private static Snapshot unexpired(Snapshot snapshot, LocalDate today) {
+        List<Entry> entries = new ArrayList<>(snapshot.entries().size());
+        long hash = 0;
+        for (Entry entry : snapshot.entries()) {
+            if (isListed(entry.scholarship(), today)) {
+                entries.add(entry);
+                hash ^= entry.checksum();
+            }
+        }
+        return new Snapshot(snapshot.day(), List.copyOf(entries), hash);
+    }
+
+    private static boolean isListed(Scholarship scholarship, LocalDate day) {
+        return "ACTIVE".equals(scholarship.getStatus())
+            && scholarship.getApplicationDeadline() != null
+            && scholarship.getApplicationDeadline().isAfter(day);
+    }
+
+    // Index of the first entry ordered strictly after (createdAt, id)
+    static int firstAfter(List<Entry> entries, LocalDateTime createdAt, Long id) {
+        Scholarship probe = new Scholarship();
+        probe.setCreatedAt(createdAt);
+        probe.setId(id);
+        int low = 0;
+        int high = entries.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (CATALOG_ORDER.compare(entries.get(mid).scholarship(), probe) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // The snapshot hash is the XOR of entry checksums, so a single upsert adjusts it
+    // in O(1) and identical catalogs on different nodes produce identical ETags
+    private static Entry entry(Scholarship scholarship, byte[] json) {
+        CRC32 crc = new CRC32();
+        crc.update(json);
+        long checksum = (crc.getValue() << 32) | (scholarship.getId() & 0xffffffffL);
+        return new Entry(scholarship, json, checksum);
+    }
+
+    private byte[] serialize(Scholarship scholarship) {
+        try {
+            return objectMapper.writeValueAsBytes(scholarship);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize scholarship " + scholarship.getId(), e);
+        }
+    }
+}
@@ -1,25 +1,37 @@
 package com.Scholar.GetScholar.Modules;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.Scholar.GetScholar.Database.ApplicationWithScholarship;
+import com.Scholar.GetScholar.Database.OrganizationApplicationSummary;
+import com.Scholar.GetScholar.Database.ReviewDecision;
+import com.Scholar.GetScholar.Database.ReviewResult;
 import com.Scholar.GetScholar.Database.ScholarshipApplication;
 import com.Scholar.GetScholar.Database.Scholarship;
 
 import jakarta.validation.Valid;
+import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/applications")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = KeysetCursor.NEXT_CURSOR_HEADER)
 public class ApplicationController {
 
     @Autowired
@@ -28,6 +40,13 @@ public class ApplicationController {
     @Autowired
     private ScholarshipService scholarshipService;
 
+    @Autowired
+    private ApplicationExporter applicationExporter;
+
+    // Present only with intake.mode=async
+    @Autowired(required = false)
+    private ApplicationIntake applicationIntake;
+
     private Authentication getCurrentAuth() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null || !auth.isAuthenticated() || "anonymousUser".equals(auth.getPrincipal())) {
@@ -47,6 +66,16 @@ public class ApplicationController {
                     .body(Map.of("error", "Authentication required"));
             }
 
+            if (applicationIntake != null) {
+                // Write-behind: durably queued now, inserted by the intake writer
+                application.setId(null);
+                application.setApplicantUsername(auth.getName());
+                ApplicationIntake.IntakeStatus queued = applicationIntake.submit(application);
+                return ResponseEntity.accepted()
+                    .location(URI.create("/api/applications/intake/" + queued.trackingId()))
+                    .body(queued);
+            }
+
             Optional<Scholarship> scholarship = scholarshipService.getScholarshipById(application.getScholarshipId());
             if (scholarship.isEmpty()) {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -63,22 +92,58 @@ public class ApplicationController {
                     .body(Map.of("error", "Application deadline has passed"));
             }
 
-            if (applicationService.hasUserApplied(auth.getName(), application.getScholarshipId())) {
-                return ResponseEntity.status(HttpStatus.CONFLICT)
-                    .body(Map.of("error", "You have already applied for this scholarship"));
-            }
-
+            // Duplicates are rejected by the unique constraint on insert, not by a prior SELECT
+            application.setId(null);
             application.setApplicantUsername(auth.getName());
             ScholarshipApplication created = applicationService.submitApplication(application);
             return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        } catch (DuplicateApplicationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", e.getMessage()));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("error", "Too many applications in flight, please retry shortly"));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Map.of("error", "Failed to submit application: " + e.getMessage()));
         }
     }
 
+    @GetMapping("/intake/{trackingId}")
+    public ResponseEntity<?> getIntakeStatus(@PathVariable String trackingId) {
+        try {
+            Authentication auth = getCurrentAuth();
+            if (auth == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "Authentication required"));
+            }
+
+            if (applicationIntake == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Asynchronous intake is not enabled"));
+            }
+
+            Optional<ApplicationIntake.IntakeStatus> status = applicationIntake.status(trackingId);
+            if (status.isEmpty() || !auth.getName().equals(status.get().applicant())) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Unknown tracking id"));
+            }
+
+            return ResponseEntity.ok(status.get());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "Failed to fetch intake status: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/my-applications")
-    public ResponseEntity<?> getMyApplications() {
+    public ResponseEntity<?> getMyApplications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
         try {
             Authentication auth = getCurrentAuth();
             if (auth == null) {
@@ -86,33 +151,16 @@ public class ApplicationController {
                     .body(Map.of("error", "Authentication required"));
             }
 
-            List<ScholarshipApplication> applications = applicationService.getApplicationsByUser(auth.getName());
-            
-            // Enrich with scholarship details
-            List<Map<String, Object>> enrichedApplications = applications.stream()
-                .map(app -> {
-                    Map<String, Object> appData = new HashMap<>();
-                    appData.put("id", app.getId());
-                    appData.put("scholarshipId", app.getScholarshipId());
-                    appData.put("fullName", app.getFullName());
-                    appData.put("email", app.getEmail());
-                    appData.put("status", app.getStatus());
-                    appData.put("createdAt", app.getCreatedAt());
-                    appData.put("reviewComments", app.getReviewComments());
-                    
-                    // Get scholarship details
-                    Optional<Scholarship> scholarship = scholarshipService.getScholarshipById(app.getScholarshipId());
-                    if (scholarship.isPresent()) {
-                        appData.put("scholarshipTitle", scholarship.get().getTitle());
-                        appData.put("organizationName", scholarship.get().getOrganizationName());
-                        appData.put("amount", scholarship.get().getAmount());
-                    }
-                    
-                    return appData;
-                })
-                .collect(Collectors.toList());
+            // Scholarship details come from the same joined query, no per-row lookups
+            int pageSize = KeysetCursor.clampLimit(limit);
+            List<ApplicationWithScholarship> enrichedApplications =
+                applicationService.getApplicationSummariesByUser(auth.getName(), KeysetCursor.decode(cursor), pageSize);
 
-            return ResponseEntity.ok(enrichedApplications);
+            return KeysetCursor.page(enrichedApplications, pageSize,
+                app -> new KeysetCursor(app.getCreatedAt(), app.getId()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Map.of("error", "Failed to fetch applications: " + e.getMessage()));
@@ -136,13 +184,7 @@ public class ApplicationController {
 
             // Check if user owns this application or owns the scholarship
             ScholarshipApplication app = application.get();
-            Optional<Scholarship> scholarship = scholarshipService.getScholarshipById(app.getScholarshipId());
-            
-            boolean isApplicant = app.getApplicantUsername().equals(auth.getName());
-            boolean isScholarshipOwner = scholarship.isPresent() && 
-                                       scholarship.get().getCreatedBy().equals(auth.getName());
-
-            if (!isApplicant && !isScholarshipOwner) {
+            if (!applicationService.isApplicantOrOwner(app, auth.getName())) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(Map.of("error", "Access denied"));
             }
@@ -157,7 +199,10 @@ public class ApplicationController {
     // ORGANIZATION APIs - Review and manage applications
 
     @GetMapping("/scholarship/{scholarshipId}")
-    public ResponseEntity<?> getApplicationsForScholarship(@PathVariable Long scholarshipId) {
+    public ResponseEntity<?> getApplicationsForScholarship(
+            @PathVariable Long scholarshipId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
         try {
             Authentication auth = getCurrentAuth();
             if (auth == null) {
@@ -177,34 +222,75 @@ public class ApplicationController {
                     .body(Map.of("error", "You can only view applications for your own scholarships"));
             }
 
-            List<ScholarshipApplication> applications = applicationService.getApplicationsForScholarship(scholarshipId);
+            int pageSize = KeysetCursor.clampLimit(limit);
+            List<ScholarshipApplication> applications = applicationService.getApplicationsForScholarship(
+                scholarshipId, KeysetCursor.decode(cursor), pageSize);
             
             // Return summary view for organization
             List<Map<String, Object>> summaries = applications.stream()
-                .map(app -> {
-                    Map<String, Object> summary = new HashMap<>();
-                    summary.put("id", app.getId());
-                    summary.put("fullName", app.getFullName());
-                    summary.put("email", app.getEmail());
-                    summary.put("currentInstitution", app.getCurrentInstitution());
-                    summary.put("courseName", app.getCourseName());
-                    summary.put("academicPercentage", app.getAcademicPercentage());
-                    summary.put("familyIncome", app.getFamilyIncome());
-                    summary.put("status", app.getStatus());
-                    summary.put("createdAt", app.getCreatedAt());
-                    return summary;
-                })
+                .map(ApplicationController::organizationSummary)
                 .collect(Collectors.toList());
 
-            return ResponseEntity.ok(summaries);
+            return KeysetCursor.page(summaries, pageSize,
+                summary -> new KeysetCursor((LocalDateTime) summary.get("createdAt"), (Long) summary.get("id")));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Map.of("error", "Failed to fetch applications: " + e.getMessage()));
         }
     }
 
+    // Declared as StreamingResponseBody so MVC writes it on an async thread; the
+    // error paths throw instead of returning a body (see handleStatusException)
+    @GetMapping("/scholarship/{scholarshipId}/export")
+    public ResponseEntity<StreamingResponseBody> exportApplicationsForScholarship(
+            @PathVariable Long scholarshipId,
+            @RequestParam(required = false) String format) {
+        Authentication auth = getCurrentAuth();
+        if (auth == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authentication required");
+        }
+
+        ApplicationExporter.Format exportFormat;
+        try {
+            exportFormat = ApplicationExporter.Format.parse(format);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        // Verify scholarship ownership
+        Optional<Scholarship> scholarship = scholarshipService.getScholarshipById(scholarshipId);
+        if (scholarship.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Scholarship not found");
+        }
+
+        if (!scholarship.get().getCreatedBy().equals(auth.getName())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN,
+                "You can only export applications for your own scholarships");
+        }
+
+        return ResponseEntity.ok()
+            .contentType(exportFormat.mediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("scholarship-" + scholarshipId + "-applications." + exportFormat.extension())
+                .build().toString())
+            .body(applicationExporter.export(scholarshipId, exportFormat));
+    }
+
+    // Same {"error": ...} body as the endpoints that return their errors directly
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<?> handleStatusException(ResponseStatusException e) {
+        return ResponseEntity.status(e.getStatusCode())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(Map.of("error", e.getReason()));
+    }
+
     @GetMapping("/my-scholarships/summary")
-    public ResponseEntity<?> getAllMyScholarshipsApplications() {
+    public ResponseEntity<?> getAllMyScholarshipsApplications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
         try {
             Authentication auth = getCurrentAuth();
             if (auth == null) {
@@ -212,37 +298,48 @@ public class ApplicationController {
                     .body(Map.of("error", "Authentication required"));
             }
 
-            List<ScholarshipApplication> applications = applicationService.getApplicationsForOrganization(auth.getName());
-            
-            // Group by scholarship and provide summary
-            List<Map<String, Object>> summaries = applications.stream()
-                .map(app -> {
-                    Map<String, Object> summary = new HashMap<>();
-                    summary.put("applicationId", app.getId());
-                    summary.put("scholarshipId", app.getScholarshipId());
-                    summary.put("applicantName", app.getFullName());
-                    summary.put("applicantEmail", app.getEmail());
-                    summary.put("status", app.getStatus());
-                    summary.put("createdAt", app.getCreatedAt());
-                    
-                    // Add scholarship info
-                    Optional<Scholarship> scholarship = scholarshipService.getScholarshipById(app.getScholarshipId());
-                    if (scholarship.isPresent()) {
-                        summary.put("scholarshipTitle", scholarship.get().getTitle());
-                        summary.put("amount", scholarship.get().getAmount());
-                    }
-                    
-                    return summary;
-                })
-                .collect(Collectors.toList());
+            int pageSize = KeysetCursor.clampLimit(limit);
+            List<OrganizationApplicationSummary> summaries = applicationService.getApplicationSummariesForOrganization(
+                auth.getName(), KeysetCursor.decode(cursor), pageSize);
 
-            return ResponseEntity.ok(summaries);
+            return KeysetCursor.page(summaries, pageSize,
+                summary -> new KeysetCursor(summary.getCreatedAt(), summary.getApplicationId()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Map.of("error", "Failed to fetch applications: " + e.getMessage()));
         }
     }
 
+    @PatchMapping("/review:batch")
+    public ResponseEntity<?> reviewApplications(@RequestBody List<ReviewDecision> decisions) {
+        try {
+            Authentication auth = getCurrentAuth();
+            if (auth == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "Authentication required"));
+            }
+
+            if (decisions == null || decisions.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "At least one review is required"));
+            }
+
+            if (decisions.size() > ApplicationService.MAX_BATCH_REVIEW) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "At most " + ApplicationService.MAX_BATCH_REVIEW + " reviews per batch"));
+            }
+
+            List<ReviewResult> results = applicationService.reviewApplications(decisions, auth.getName());
+            return ResponseEntity.ok(results);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "Failed to review applications: " + e.getMessage()));
+        }
+    }
+
     @PatchMapping("/{id}/review")
     public ResponseEntity<?> reviewApplication(
             @PathVariable Long id,
@@ -286,9 +383,30 @@ public class ApplicationController {
             );
 
             return ResponseEntity.ok(updated);
+        } catch (SlotsExhaustedException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", "No slots remaining for this scholarship"));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Map.of("error", "Failed to review application: " + e.getMessage()));
         }
     }
-}
\ No newline at end of file
+
+    // Summary view of an application for the owning organization
+    public static Map<String, Object> organizationSummary(ScholarshipApplication app) {
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("id", app.getId());
+        summary.put("fullName", app.getFullName());
+        summary.put("email", app.getEmail());
+        summary.put("currentInstitution", app.getCurrentInstitution());
+        summary.put("courseName", app.getCourseName());
+        summary.put("academicPercentage", app.getAcademicPercentage());
+        summary.put("familyIncome", app.getFamilyIncome());
+        summary.put("status", app.getStatus());
+        summary.put("createdAt", app.getCreatedAt());
+        return summary;
+    }
+}
@@ -0,0 +1,160 @@
+package com.Scholar.GetScholar.Modules;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.Scholar.GetScholar.Database.ApplicationExportRow;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+// Writes a scholarship's applicants straight from the database cursor to the
+// response, one row at a time, so memory use does not depend on the row count
+@Component
+public class ApplicationExporter {
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(String mediaType, String extension) {
+            this.mediaType = MediaType.parseMediaType(mediaType);
+            this.extension = extension;
+        }
+
+        public MediaType mediaType() {
+            return mediaType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public static Format parse(String value) {
+            try {
+                return value == null ? CSV : valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Format must be csv or ndjson");
+            }
+        }
+    }
+
+    private static final String[] CSV_HEADER = {
+        "id", "fullName", "email", "phoneNumber", "dateOfBirth", "gender", "nationality",
+        "currentInstitution", "courseName", "yearOfStudy", "academicPercentage", "familyIncome",
+        "status", "createdAt", "reviewedAt"
+    };
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public StreamingResponseBody export(Long scholarshipId, Format format) {
+        return format == Format.CSV
+            ? out -> writeCsv(scholarshipId, out)
+            : out -> writeNdjson(scholarshipId, out);
+    }
+
+    void writeCsv(Long scholarshipId, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        writeCsvLine(writer, (Object[]) CSV_HEADER);
+        try {
+            applicationService.exportApplicationsForScholarship(scholarshipId, row -> {
+                try {
+                    writeCsvLine(writer, row.getId(), row.getFullName(), row.getEmail(), row.getPhoneNumber(),
+                        row.getDateOfBirth(), row.getGender(), row.getNationality(), row.getCurrentInstitution(),
+                        row.getCourseName(), row.getYearOfStudy(), row.getAcademicPercentage(), row.getFamilyIncome(),
+                        row.getStatus(), row.getCreatedAt(), row.getReviewedAt());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    void writeNdjson(Long scholarshipId, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        // The container owns the response stream; rows are newline- rather than space-separated
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try {
+            applicationService.exportApplicationsForScholarship(scholarshipId, row -> {
+                try {
+                    writer.writeValue(generator, row);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        generator.flush();
+    }
+
+    private static void writeCsvLine(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvValue(writer, values[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    // RFC 4180: quote fields containing separators, quotes or line breaks.
+    // Text that a spreadsheet would evaluate as a formula gets a leading ' and is
+    // quoted; numbers are written as they are, so a negative value stays a number.
+    private static void writeCsvValue(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value instanceof Double number ? BigDecimal.valueOf(number).toPlainString() : value.toString();
+        boolean quote = false;
+        if (value instanceof String && isFormulaTrigger(text)) {
+            text = "'" + text;
+            quote = true;
+        }
+        for (int i = 0; i < text.length() && !quote; i++) {
+            char c = text.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static boolean isFormulaTrigger(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        char first = text.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+}
@@ -0,0 +1,411 @@
+package com.Scholar.GetScholar.Modules;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.Scholar.GetScholar.ScholarshipApplicationRepository;
+import com.Scholar.GetScholar.Database.Scholarship;
+import com.Scholar.GetScholar.Database.ScholarshipApplication;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Write-behind intake for POST /api/applications (intake.mode=async).
+//
+// A submit is validated against the in-memory catalog, appended to the local
+// IntakeLog and acknowledged with a tracking id; nothing touches Postgres on
+// the request thread. One writer thread drains the queue into
+// scholarship_applications with JDBC batches and checkpoints the log after each
+// commit. On startup everything after the checkpoint is replayed; replayed and
+// retried batches skip rows whose tracking id is already in the table.
+@Component
+@ConditionalOnProperty(name = "intake.mode", havingValue = "async")
+public class ApplicationIntake {
+
+    private static final Log logger = LogFactory.getLog(ApplicationIntake.class);
+
+    public enum State { QUEUED, WRITTEN, REJECTED }
+
+    public record IntakeStatus(String trackingId, State state, Long applicationId, String error,
+                               @JsonIgnore String applicant) {}
+
+    record Envelope(String trackingId, LocalDateTime receivedAt, ScholarshipApplication application) {}
+
+    private record Pending(long sequence, Envelope envelope) {}
+
+    // Catalog snapshot indexed by id, rebuilt whenever the catalog publishes a new one
+    private record ActiveById(ActiveScholarshipCatalog.Snapshot source, Map<Long, Scholarship> byId) {}
+
+    private static final String INSERT_SQL =
+        "INSERT INTO scholarship_applications (scholarship_id, full_name, date_of_birth, gender, email, "
+        + "phone_number, address, nationality, current_institution, course_name, year_of_study, "
+        + "academic_percentage, achievements, family_income, guardian_name, guardian_occupation, "
+        + "guardian_contact, reason_for_applying, status, applicant_username, created_at, updated_at, "
+        + "created_by, intake_tracking_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_DOCUMENT_SQL =
+        "INSERT INTO application_documents (application_id, document_path) VALUES (?, ?)";
+
+    @Autowired
+    private ActiveScholarshipCatalog catalog;
+
+    @Autowired
+    private ScholarshipService scholarshipService;
+
+    @Autowired
+    private ScholarshipApplicationRepository applicationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationStatsService applicationStatsService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${intake.wal.dir:data/intake-wal}")
+    private Path logDirectory;
+
+    @Value("${intake.wal.segment-bytes:67108864}")
+    private int segmentBytes;
+
+    @Value("${intake.wal.fsync:true}")
+    private boolean fsync;
+
+    @Value("${intake.max-pending:10000}")
+    private int maxPending;
+
+    @Value("${intake.writer.batch-size:200}")
+    private int batchSize;
+
+    private IntakeLog log;
+    private Semaphore capacity;
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final AtomicReference<ActiveById> activeById = new AtomicReference<>();
+    private Cache<String, IntakeStatus> statuses;
+    private TransactionTemplate transactions;
+    private Counter written;
+    private Counter rejected;
+    private Thread writer;
+    private volatile boolean running;
+    // Sequences up to here came from replay and may already be in the table
+    private long replayedThrough;
+
+    @PostConstruct
+    void start() throws IOException {
+        log = new IntakeLog(logDirectory, segmentBytes, fsync);
+        statuses = Caffeine.newBuilder().expireAfterWrite(Duration.ofHours(1)).build();
+        transactions = new TransactionTemplate(transactionManager);
+        if (meterRegistry != null) {
+            Gauge.builder("intake.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+            written = meterRegistry.counter("intake.written");
+            rejected = meterRegistry.counter("intake.rejected");
+        }
+
+        List<IntakeLog.Record> replay = log.replay(log.checkpoint());
+        capacity = new Semaphore(Math.max(0, maxPending - replay.size()));
+        for (IntakeLog.Record record : replay) {
+            Envelope envelope = objectMapper.readValue(record.payload(), Envelope.class);
+            queue.add(new Pending(record.sequence(), envelope));
+            statuses.put(envelope.trackingId(), new IntakeStatus(envelope.trackingId(), State.QUEUED, null, null,
+                envelope.application().getApplicantUsername()));
+            replayedThrough = record.sequence();
+        }
+        if (!replay.isEmpty()) {
+            logger.info("Replaying " + replay.size() + " intake records from " + logDirectory);
+        }
+
+        running = true;
+        writer = new Thread(this::drain, "intake-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void stop() throws Exception {
+        // Anything still queued stays in the log and is replayed on the next start
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+        if (writer.isAlive()) {
+            logger.warn("Intake writer did not stop in time; closing the log anyway");
+        }
+        log.close();
+    }
+
+    // Validates, logs durably and queues; throws RejectedExecutionException
+    // when the backlog is full
+    public IntakeStatus submit(ScholarshipApplication application) throws IOException {
+        checkAcceptingApplications(application.getScholarshipId());
+        if (!capacity.tryAcquire()) {
+            throw new RejectedExecutionException("Intake queue is full");
+        }
+        try {
+            Envelope envelope = new Envelope(UUID.randomUUID().toString(), LocalDateTime.now(), application);
+            IntakeStatus status = new IntakeStatus(envelope.trackingId(), State.QUEUED, null, null,
+                application.getApplicantUsername());
+            statuses.put(envelope.trackingId(), status);
+            long sequence = log.append(objectMapper.writeValueAsBytes(envelope));
+            queue.add(new Pending(sequence, envelope));
+            return status;
+        } catch (IOException | RuntimeException e) {
+            capacity.release();
+            throw e;
+        }
+    }
+
+    public Optional<IntakeStatus> status(String trackingId) {
+        IntakeStatus status = statuses.getIfPresent(trackingId);
+        if (status != null) {
+            return Optional.of(status);
+        }
+        // Expired from the cache or from before a restart
+        return applicationRepository.findByIntakeTrackingId(trackingId)
+            .map(application -> new IntakeStatus(trackingId, State.WRITTEN, application.getId(), null,
+                application.getApplicantUsername()));
+    }
+
+    // Same rules as the synchronous path, answered from the catalog when possible
+    private void checkAcceptingApplications(Long scholarshipId) {
+        Scholarship scholarship = activeScholarships().get(scholarshipId);
+        if (scholarship == null) {
+            scholarship = scholarshipService.getScholarshipById(scholarshipId)
+                .orElseThrow(() -> new IllegalArgumentException("Scholarship not found"));
+        }
+        if (!"ACTIVE".equals(scholarship.getStatus())) {
+            throw new IllegalArgumentException("Scholarship is not active");
+        }
+        if (scholarship.getApplicationDeadline().isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("Application deadline has passed");
+        }
+    }
+
+    private Map<Long, Scholarship> activeScholarships() {
+        ActiveScholarshipCatalog.Snapshot snapshot = catalog.snapshot();
+        ActiveById existing = activeById.get();
+        if (existing != null && existing.source() == snapshot) {
+            return existing.byId();
+        }
+        Map<Long, Scholarship> byId = new HashMap<>();
+        snapshot.entries().forEach(entry -> byId.put(entry.scholarship().getId(), entry.scholarship()));
+        activeById.compareAndSet(existing, new ActiveById(snapshot, byId));
+        return byId;
+    }
+
+    private void drain() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        try {
+            while (running) {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeUntilDone(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Retries with backoff while the database is unavailable; the batch is
+    // never dropped, and on shutdown it simply stays in the log
+    private void writeUntilDone(List<Pending> batch) throws InterruptedException {
+        long backoff = 100;
+        boolean retry = false;
+        while (true) {
+            try {
+                write(batch, retry);
+                return;
+            } catch (RuntimeException | IOException e) {
+                if (!running) {
+                    throw new InterruptedException("Intake writer stopped with an unwritten batch");
+                }
+                logger.warn("Intake batch of " + batch.size() + " failed, retrying in " + backoff + "ms", e);
+                Thread.sleep(backoff);
+                backoff = Math.min(backoff * 2, 5000);
+                retry = true;
+            }
+        }
+    }
+
+    // A replayed or retried batch may be partly in the table already: the last
+    // attempt can have committed before its checkpoint failed
+    void write(List<Pending> batch, boolean retry) throws IOException {
+        List<Pending> fresh = batch;
+        if (retry || batch.get(0).sequence() <= replayedThrough) {
+            Set<String> trackingIds = new HashSet<>();
+            batch.forEach(pending -> trackingIds.add(pending.envelope().trackingId()));
+            Map<String, Long> existing = new HashMap<>();
+            applicationRepository.findIntakeTrackingViews(trackingIds)
+                .forEach(view -> existing.put(view.getIntakeTrackingId(), view.getId()));
+            fresh = new ArrayList<>();
+            for (Pending pending : batch) {
+                Long id = existing.get(pending.envelope().trackingId());
+                if (id == null) {
+                    fresh.add(pending);
+                } else {
+                    markWritten(pending.envelope(), id);
+                }
+            }
+        }
+
+        if (!fresh.isEmpty()) {
+            List<Pending> rows = fresh;
+            try {
+                List<Long> ids = transactions.execute(tx -> insertBatch(rows));
+                for (int i = 0; i < rows.size(); i++) {
+                    markWritten(rows.get(i).envelope(), ids.get(i));
+                }
+            } catch (DataIntegrityViolationException e) {
+                // One bad row fails the whole batch; settle them one by one
+                rows.forEach(this::writeOne);
+            }
+        }
+
+        log.checkpoint(batch.get(batch.size() - 1).sequence());
+        capacity.release(batch.size());
+    }
+
+    private void writeOne(Pending pending) {
+        Envelope envelope = pending.envelope();
+        try {
+            List<Long> ids = transactions.execute(tx -> insertBatch(List.of(pending)));
+            markWritten(envelope, ids.get(0));
+        } catch (DataIntegrityViolationException e) {
+            String error = ApplicationService.isDuplicateApplication(e)
+                ? "You have already applied for this scholarship"
+                : "Application could not be stored: " + e.getMostSpecificCause().getMessage();
+            statuses.put(envelope.trackingId(), new IntakeStatus(envelope.trackingId(), State.REJECTED, null, error,
+                envelope.application().getApplicantUsername()));
+            if (rejected != null) {
+                rejected.increment();
+            }
+        }
+    }
+
+    private void markWritten(Envelope envelope, Long applicationId) {
+        IntakeStatus previous = statuses.asMap().put(envelope.trackingId(), new IntakeStatus(envelope.trackingId(),
+            State.WRITTEN, applicationId, null, envelope.application().getApplicantUsername()));
+        // A retried batch settles rows it already wrote a second time
+        if (written != null && (previous == null || previous.state() != State.WRITTEN)) {
+            written.increment();
+        }
+    }
+
+    private List<Long> insertBatch(List<Pending> batch) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, new String[] {"id"}),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    bindApplication(ps, batch.get(i).envelope());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return batch.size();
+                }
+            }, keys);
+
+        List<Long> ids = new ArrayList<>(batch.size());
+        for (Map<String, Object> row : keys.getKeyList()) {
+            ids.add(((Number) row.values().iterator().next()).longValue());
+        }
+
+        List<Object[]> documents = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            List<String> paths = batch.get(i).envelope().application().getDocumentsSubmitted();
+            if (paths != null) {
+                for (String path : paths) {
+                    documents.add(new Object[] {ids.get(i), path});
+                }
+            }
+        }
+        if (!documents.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_DOCUMENT_SQL, documents);
+        }
+
+        Map<Long, long[]> submitted = new HashMap<>();
+        batch.forEach(pending -> ApplicationStatsService.count(submitted,
+            pending.envelope().application().getScholarshipId(), "SUBMITTED", 1));
+        applicationStatsService.apply(submitted);
+        return ids;
+    }
+
+    private static void bindApplication(PreparedStatement ps, Envelope envelope) throws SQLException {
+        ScholarshipApplication a = envelope.application();
+        ps.setLong(1, a.getScholarshipId());
+        ps.setString(2, a.getFullName());
+        ps.setObject(3, a.getDateOfBirth());
+        ps.setString(4, a.getGender());
+        ps.setString(5, a.getEmail());
+        ps.setString(6, a.getPhoneNumber());
+        ps.setString(7, a.getAddress());
+        ps.setString(8, a.getNationality());
+        ps.setString(9, a.getCurrentInstitution());
+        ps.setString(10, a.getCourseName());
+        ps.setString(11, a.getYearOfStudy());
+        ps.setDouble(12, a.getAcademicPercentage());
+        ps.setString(13, a.getAchievements());
+        ps.setDouble(14, a.getFamilyIncome());
+        ps.setString(15, a.getGuardianName());
+        ps.setString(16, a.getGuardianOccupation());
+        ps.setString(17, a.getGuardianContact());
+        ps.setString(18, a.getReasonForApplying());
+        ps.setString(19, "SUBMITTED");
+        ps.setString(20, a.getApplicantUsername());
+        ps.setObject(21, envelope.receivedAt());
+        ps.setObject(22, envelope.receivedAt());
+        ps.setString(23, a.getCreatedBy());
+        ps.setString(24, envelope.trackingId());
+    }
+}
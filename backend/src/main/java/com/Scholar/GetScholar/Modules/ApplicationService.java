@@ -1,8 +1,17 @@
 package com.Scholar.GetScholar.Modules;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.Scholar.GetScholar.Database.ApplicationExportRow;
+import com.Scholar.GetScholar.Database.ApplicationWithScholarship;
+import com.Scholar.GetScholar.Database.OrganizationApplicationSummary;
+import com.Scholar.GetScholar.Database.ReviewDecision;
+import com.Scholar.GetScholar.Database.ReviewResult;
+import com.Scholar.GetScholar.Database.ReviewTarget;
 import com.Scholar.GetScholar.Database.ScholarshipApplication;
 import com.Scholar.GetScholar.ScholarshipApplicationRepository;
 import com.Scholar.GetScholar.ScholarshipRepository;
@@ -10,8 +19,19 @@ import com.Scholar.GetScholar.Database.Scholarship;
 
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -23,13 +43,55 @@ public class ApplicationService {
     @Autowired
     private ScholarshipRepository scholarshipRepository;
 
+    @Autowired
+    private SlotReservationService slotReservationService;
+
+    @Autowired
+    private ApplicationStatsService applicationStatsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final String APPROVED = "APPROVED";
+
+    public static final int MAX_BATCH_REVIEW = 1000;
+
+    private static final int REVIEW_BATCH_SIZE = 50;
+
+    private static final String TRANSITION_SQL =
+        "UPDATE scholarship_applications SET status = ?, review_comments = ?, reviewed_by = ?, "
+        + "reviewed_at = ?, updated_at = ? WHERE id = ? AND status = ?";
+
+    // Single INSERT; the unique constraint replaces the old check-then-insert,
+    // which let two concurrent submits both pass
     public ScholarshipApplication submitApplication(ScholarshipApplication application) {
-        return applicationRepository.save(application);
+        ScholarshipApplication saved;
+        try {
+            saved = applicationRepository.saveAndFlush(application);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateApplication(e)) {
+                throw new DuplicateApplicationException(e);
+            }
+            throw e;
+        }
+        applicationStatsService.recordSubmitted(saved.getScholarshipId(), 1);
+        return saved;
     }
 
     @Transactional(readOnly = true)
     public Optional<ScholarshipApplication> getApplicationById(Long id) {
-        return applicationRepository.findById(id);
+        return applicationRepository.findWithDocumentsById(id);
+    }
+
+    // The applicant and the owner of the scholarship may see an application and its documents
+    @Transactional(readOnly = true)
+    public boolean isApplicantOrOwner(ScholarshipApplication application, String username) {
+        if (application.getApplicantUsername().equals(username)) {
+            return true;
+        }
+        return scholarshipRepository.findById(application.getScholarshipId())
+            .map(scholarship -> username.equals(scholarship.getCreatedBy()))
+            .orElse(false);
     }
 
     @Transactional(readOnly = true)
@@ -37,11 +99,38 @@ public class ApplicationService {
         return applicationRepository.findByApplicantUsernameOrderByCreatedAtDesc(username);
     }
 
+    @Transactional(readOnly = true)
+    public List<ApplicationWithScholarship> getApplicationSummariesByUser(String username, KeysetCursor cursor, int limit) {
+        if (cursor == null) {
+            return applicationRepository.findWithScholarshipByApplicantUsername(username, KeysetCursor.probe(limit));
+        }
+        return applicationRepository.findWithScholarshipByApplicantUsernameAfter(
+            username, cursor.createdAt(), cursor.id(), KeysetCursor.probe(limit));
+    }
+
     @Transactional(readOnly = true)
     public List<ScholarshipApplication> getApplicationsForScholarship(Long scholarshipId) {
         return applicationRepository.findByScholarshipIdOrderByCreatedAtDesc(scholarshipId);
     }
 
+    @Transactional(readOnly = true)
+    public List<ScholarshipApplication> getApplicationsForScholarship(Long scholarshipId, KeysetCursor cursor, int limit) {
+        if (cursor == null) {
+            return applicationRepository.findByScholarshipIdOrderByCreatedAtDescIdDesc(scholarshipId, KeysetCursor.probe(limit));
+        }
+        return applicationRepository.findByScholarshipIdAfter(
+            scholarshipId, cursor.createdAt(), cursor.id(), KeysetCursor.probe(limit));
+    }
+
+    // Pushes every application of a scholarship through the sink while the
+    // cursor's transaction is open
+    @Transactional(readOnly = true)
+    public void exportApplicationsForScholarship(Long scholarshipId, Consumer<ApplicationExportRow> sink) {
+        try (Stream<ApplicationExportRow> rows = applicationRepository.streamExportRows(scholarshipId)) {
+            rows.forEach(sink);
+        }
+    }
+
     @Transactional(readOnly = true)
     public List<ScholarshipApplication> getApplicationsForOrganization(String organizationUsername) {
         // Get all scholarships created by the organization
@@ -53,20 +142,163 @@ public class ApplicationService {
         );
     }
 
+    @Transactional(readOnly = true)
+    public List<OrganizationApplicationSummary> getApplicationSummariesForOrganization(
+            String organizationUsername, KeysetCursor cursor, int limit) {
+        if (cursor == null) {
+            return applicationRepository.findOrganizationSummaries(organizationUsername, KeysetCursor.probe(limit));
+        }
+        return applicationRepository.findOrganizationSummariesAfter(
+            organizationUsername, cursor.createdAt(), cursor.id(), KeysetCursor.probe(limit));
+    }
+
     @Transactional(readOnly = true)
     public boolean hasUserApplied(String username, Long scholarshipId) {
-        return applicationRepository.findByApplicantUsernameAndScholarshipId(username, scholarshipId).isPresent();
+        return applicationRepository.existsByApplicantUsernameAndScholarshipId(username, scholarshipId);
     }
 
+    static boolean isDuplicateApplication(DataIntegrityViolationException e) {
+        // Prefer the constraint name Hibernate extracted; fall back to the driver message
+        String detail = e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+            ? violation.getConstraintName()
+            : e.getMostSpecificCause().getMessage();
+        return detail != null && detail.toLowerCase(Locale.ROOT)
+            .contains(ScholarshipApplication.UNIQUE_APPLICANT_SCHOLARSHIP);
+    }
+
+    // The status change is applied first and the slot and stats rows are taken
+    // last, so the contended per-scholarship rows stay locked only for the commit
     public ScholarshipApplication reviewApplication(Long applicationId, String status, String comments, String reviewedBy) {
         ScholarshipApplication application = applicationRepository.findById(applicationId)
             .orElseThrow(() -> new IllegalArgumentException("Application not found"));
+        String previous = application.getStatus();
+
+        int updated = applicationRepository.transitionStatus(
+            applicationId, status, comments, reviewedBy, LocalDateTime.now(), previous);
+        if (updated == 0) {
+            throw new IllegalStateException("Application was reviewed concurrently, please reload");
+        }
+
+        if (APPROVED.equals(status) && !APPROVED.equals(previous)) {
+            slotReservationService.reserve(application.getScholarshipId());
+        } else if (APPROVED.equals(previous) && !APPROVED.equals(status)) {
+            slotReservationService.release(application.getScholarshipId());
+        }
+        applicationStatsService.recordTransition(application.getScholarshipId(), previous, status);
+
+        return applicationRepository.findWithDocumentsById(applicationId).orElseThrow();
+    }
+
+    // A whole review session in a handful of statements: one ownership query,
+    // one slot reservation per scholarship, one JDBC batch of compare-and-set
+    // updates and one slot release per scholarship for whatever was undone
+    public List<ReviewResult> reviewApplications(List<ReviewDecision> decisions, String reviewedBy) {
+        ReviewResult[] results = new ReviewResult[decisions.size()];
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < decisions.size(); i++) {
+            ReviewDecision decision = decisions.get(i);
+            if (decision == null || decision.getId() == null) {
+                results[i] = failed(null, ReviewResult.Outcome.INVALID, "Application id is required");
+            } else if (!APPROVED.equals(decision.getStatus()) && !"REJECTED".equals(decision.getStatus())) {
+                results[i] = failed(decision.getId(), ReviewResult.Outcome.INVALID,
+                    "Status must be either APPROVED or REJECTED");
+            } else if (!ids.add(decision.getId())) {
+                results[i] = failed(decision.getId(), ReviewResult.Outcome.INVALID, "Application appears twice in the batch");
+            }
+        }
+
+        Map<Long, ReviewTarget> targets = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (ReviewTarget target : applicationRepository.findReviewTargets(ids)) {
+                targets.put(target.getApplicationId(), target);
+            }
+        }
+
+        List<Integer> accepted = new ArrayList<>();
+        Map<Long, List<Integer>> approvalsByScholarship = new LinkedHashMap<>();
+        for (int i = 0; i < decisions.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            ReviewDecision decision = decisions.get(i);
+            ReviewTarget target = targets.get(decision.getId());
+            if (target == null) {
+                results[i] = failed(decision.getId(), ReviewResult.Outcome.NOT_FOUND, "Application not found");
+            } else if (!reviewedBy.equals(target.getOwner())) {
+                results[i] = failed(decision.getId(), ReviewResult.Outcome.FORBIDDEN,
+                    "You can only review applications for your own scholarships");
+            } else if (takesSlot(target, decision)) {
+                approvalsByScholarship.computeIfAbsent(target.getScholarshipId(), id -> new ArrayList<>()).add(i);
+            } else {
+                accepted.add(i);
+            }
+        }
+
+        // Slots go to approvals in request order; the rest are refused
+        approvalsByScholarship.forEach((scholarshipId, indexes) -> {
+            int granted = slotReservationService.reserve(scholarshipId, indexes.size());
+            for (int k = 0; k < indexes.size(); k++) {
+                int i = indexes.get(k);
+                if (k < granted) {
+                    accepted.add(i);
+                } else {
+                    results[i] = failed(decisions.get(i).getId(), ReviewResult.Outcome.NO_SLOTS,
+                        "No slots remaining for this scholarship");
+                }
+            }
+        });
 
-        application.setStatus(status);
-        application.setReviewComments(comments);
-        application.setReviewedBy(reviewedBy);
-        application.setReviewedAt(LocalDateTime.now());
+        // Update in id order so concurrent batches lock rows in the same order
+        accepted.sort(Comparator.comparing(i -> decisions.get(i).getId()));
+        LocalDateTime now = LocalDateTime.now();
+        int[][] counts = jdbcTemplate.batchUpdate(TRANSITION_SQL, accepted, REVIEW_BATCH_SIZE, (ps, i) -> {
+            ReviewDecision decision = decisions.get(i);
+            ps.setString(1, decision.getStatus());
+            ps.setString(2, decision.getComments());
+            ps.setString(3, reviewedBy);
+            ps.setObject(4, now);
+            ps.setObject(5, now);
+            ps.setLong(6, decision.getId());
+            ps.setString(7, targets.get(decision.getId()).getStatus());
+        });
+
+        Map<Long, Integer> slotsToRelease = new HashMap<>();
+        Map<Long, long[]> statsDeltas = new HashMap<>();
+        int n = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                int i = accepted.get(n++);
+                ReviewDecision decision = decisions.get(i);
+                ReviewTarget target = targets.get(decision.getId());
+                boolean takesSlot = takesSlot(target, decision);
+                if (count == 0) {
+                    results[i] = failed(decision.getId(), ReviewResult.Outcome.CONFLICT,
+                        "Application was reviewed concurrently, please reload");
+                    if (takesSlot) {
+                        slotsToRelease.merge(target.getScholarshipId(), 1, Integer::sum);
+                    }
+                } else {
+                    results[i] = new ReviewResult(decision.getId(), ReviewResult.Outcome.UPDATED, decision.getStatus(), null);
+                    ApplicationStatsService.count(statsDeltas, target.getScholarshipId(), target.getStatus(), -1);
+                    ApplicationStatsService.count(statsDeltas, target.getScholarshipId(), decision.getStatus(), 1);
+                    if (APPROVED.equals(target.getStatus()) && !APPROVED.equals(decision.getStatus())) {
+                        slotsToRelease.merge(target.getScholarshipId(), 1, Integer::sum);
+                    }
+                }
+            }
+        }
+        slotsToRelease.forEach(slotReservationService::release);
+        applicationStatsService.apply(statsDeltas);
+
+        return Arrays.asList(results);
+    }
+
+    private static boolean takesSlot(ReviewTarget target, ReviewDecision decision) {
+        return APPROVED.equals(decision.getStatus()) && !APPROVED.equals(target.getStatus());
+    }
 
-        return applicationRepository.save(application);
+    private static ReviewResult failed(Long id, ReviewResult.Outcome outcome, String error) {
+        return new ReviewResult(id, outcome, null, error);
     }
-}
\ No newline at end of file
+}
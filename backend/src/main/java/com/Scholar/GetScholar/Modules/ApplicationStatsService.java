@@ -0,0 +1,171 @@
+package com.Scholar.GetScholar.Modules;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.Scholar.GetScholar.ScholarshipStatsRepository;
+import com.Scholar.GetScholar.Database.ScholarshipStats;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Per-scholarship SUBMITTED/APPROVED/REJECTED counts. Every transaction that
+// inserts or reviews an application adjusts the scholarship's stats row as its
+// last statement, so the row lock is held only until commit and reads are a
+// primary-key lookup that never touches scholarship_applications. A periodic
+// reconcile recounts only the rows that drifted (e.g. after manual SQL).
+@Service
+public class ApplicationStatsService {
+
+    private static final Log logger = LogFactory.getLog(ApplicationStatsService.class);
+
+    private static final String[] STATUSES = {"SUBMITTED", "APPROVED", "REJECTED"};
+
+    private static final String COUNTS =
+        "COALESCE(SUM(CASE WHEN status = 'SUBMITTED' THEN 1 ELSE 0 END), 0), "
+        + "COALESCE(SUM(CASE WHEN status = 'APPROVED' THEN 1 ELSE 0 END), 0), "
+        + "COALESCE(SUM(CASE WHEN status = 'REJECTED' THEN 1 ELSE 0 END), 0) "
+        + "FROM scholarship_applications WHERE scholarship_id = ?";
+
+    private static final String INSERT_EMPTY =
+        "INSERT INTO scholarship_application_stats (scholarship_id, submitted, approved, rejected) VALUES (?, 0, 0, 0)";
+
+    private static final String INSERT_COUNTED =
+        "INSERT INTO scholarship_application_stats (scholarship_id, submitted, approved, rejected) SELECT ?, " + COUNTS;
+
+    private static final String RECOUNT =
+        "UPDATE scholarship_application_stats SET (submitted, approved, rejected) = (SELECT " + COUNTS + ") "
+        + "WHERE scholarship_id = ?";
+
+    private static final String FIND_DRIFTED =
+        "SELECT st.scholarship_id FROM scholarship_application_stats st LEFT JOIN ("
+        + " SELECT scholarship_id, SUM(CASE WHEN status = 'SUBMITTED' THEN 1 ELSE 0 END) AS submitted,"
+        + " SUM(CASE WHEN status = 'APPROVED' THEN 1 ELSE 0 END) AS approved,"
+        + " SUM(CASE WHEN status = 'REJECTED' THEN 1 ELSE 0 END) AS rejected"
+        + " FROM scholarship_applications GROUP BY scholarship_id) a ON a.scholarship_id = st.scholarship_id "
+        + "WHERE st.submitted <> COALESCE(a.submitted, 0) OR st.approved <> COALESCE(a.approved, 0) "
+        + "OR st.rejected <> COALESCE(a.rejected, 0)";
+
+    private static final String FIND_MISSING =
+        "SELECT s.id FROM scholarships s WHERE NOT EXISTS "
+        + "(SELECT 1 FROM scholarship_application_stats st WHERE st.scholarship_id = s.id)";
+
+    @Autowired
+    private ScholarshipStatsRepository statsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // A plain insert: save() on an entity with an assigned id would merge, i.e.
+    // SELECT the row first
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void createFor(Long scholarshipId) {
+        jdbcTemplate.update(INSERT_EMPTY, scholarshipId);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordSubmitted(Long scholarshipId, int count) {
+        adjust(scholarshipId, new long[] {count, 0, 0});
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransition(Long scholarshipId, String from, String to) {
+        Map<Long, long[]> deltas = new HashMap<>();
+        count(deltas, scholarshipId, from, -1);
+        count(deltas, scholarshipId, to, 1);
+        apply(deltas);
+    }
+
+    // Adds sign to the status column of a per-scholarship {submitted, approved, rejected} delta
+    public static void count(Map<Long, long[]> deltas, Long scholarshipId, String status, int sign) {
+        for (int column = 0; column < STATUSES.length; column++) {
+            if (STATUSES[column].equals(status)) {
+                deltas.computeIfAbsent(scholarshipId, id -> new long[STATUSES.length])[column] += sign;
+            }
+        }
+    }
+
+    // In scholarship id order, so concurrent batches lock stats rows in the same order
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Map<Long, long[]> deltas) {
+        new TreeMap<>(deltas).forEach(this::adjust);
+    }
+
+    @Transactional(readOnly = true)
+    public ScholarshipStats getStats(Long scholarshipId) {
+        return statsRepository.findById(scholarshipId).orElseGet(() -> new ScholarshipStats(scholarshipId));
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, ScholarshipStats> getStats(Collection<Long> scholarshipIds) {
+        Map<Long, ScholarshipStats> stats = new HashMap<>();
+        for (Long id : scholarshipIds) {
+            stats.put(id, new ScholarshipStats(id));
+        }
+        statsRepository.findAllById(scholarshipIds).forEach(row -> stats.put(row.getScholarshipId(), row));
+        return stats;
+    }
+
+    @Scheduled(fixedDelayString = "${stats.reconcile-ms:3600000}", initialDelayString = "${stats.reconcile-ms:3600000}")
+    public void reconcile() {
+        try {
+            List<Long> missing = jdbcTemplate.queryForList(FIND_MISSING, Long.class);
+            List<Long> drifted = jdbcTemplate.queryForList(FIND_DRIFTED, Long.class);
+            TransactionTemplate transactions = new TransactionTemplate(transactionManager);
+            for (Long id : missing) {
+                try {
+                    transactions.executeWithoutResult(tx -> insertCounted(id));
+                } catch (DataIntegrityViolationException e) {
+                    // Another instance's reconcile inserted it first
+                }
+            }
+            for (Long id : drifted) {
+                transactions.executeWithoutResult(tx -> recount(id));
+            }
+            if (!missing.isEmpty() || !drifted.isEmpty()) {
+                logger.warn("Application stats reconciled: " + missing.size() + " missing, "
+                    + drifted.size() + " drifted");
+            }
+        } catch (Exception e) {
+            logger.warn("Application stats reconcile failed: " + e.getMessage());
+        }
+    }
+
+    // Every scholarship gets its row in the transaction that creates it (or from the
+    // V5 backfill); one inserted behind the service's back has none until reconcile
+    // counts it, which is safer than racing concurrent first submits to insert it
+    private void adjust(Long scholarshipId, long[] delta) {
+        if (delta[0] == 0 && delta[1] == 0 && delta[2] == 0) {
+            return;
+        }
+        statsRepository.adjust(scholarshipId, delta[0], delta[1], delta[2]);
+    }
+
+    private void insertCounted(Long scholarshipId) {
+        jdbcTemplate.update(INSERT_COUNTED, scholarshipId, scholarshipId);
+    }
+
+    // Locking the stats row first means every writer that already adjusted it has
+    // committed, and every later one waits; the recount then sees exactly the
+    // applications those writers accounted for
+    private void recount(Long scholarshipId) {
+        jdbcTemplate.queryForList("SELECT scholarship_id FROM scholarship_application_stats "
+            + "WHERE scholarship_id = ? FOR UPDATE", scholarshipId);
+        jdbcTemplate.update(RECOUNT, scholarshipId, scholarshipId);
+    }
+}
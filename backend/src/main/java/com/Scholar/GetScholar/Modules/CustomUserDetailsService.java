@@ -1,27 +1,137 @@
 package com.Scholar.GetScholar.Modules;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.Scholar.GetScholar.UserRepo;
 import com.Scholar.GetScholar.Database.UserDetail;
+import com.Scholar.GetScholar.Security.TokenVersionRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+
+import java.time.Duration;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService{
-    
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+
     @Autowired
     private UserRepo userDetailRepository;
 
+    @Autowired
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${user-details.cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    @Value("${user-details.cache.ttl:5m}")
+    private Duration cacheTtl;
+
+    // email -> user. Caffeine runs at most one loader per key, so concurrent
+    // logins for the same email share a single findByEmail.
+    private Cache<String, UserDetail> userCache;
+
+    @PostConstruct
+    void initCache() {
+        userCache = Caffeine.newBuilder()
+            .maximumSize(cacheMaxSize)
+            .expireAfterWrite(cacheTtl)
+            .recordStats()
+            .build();
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, userCache, "userDetails");
+        }
+    }
+
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        return userDetailRepository.findByEmail(email)
-            .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        // Unknown emails are not cached; the loader returns null and we throw.
+        // Read from the primary: a login right after registering or changing the
+        // password has no user to pin it there and must not miss on a lagging replica
+        UserDetail user = userCache.get(email,
+            key -> ReadReplicaDataSource.onPrimary(() -> userDetailRepository.findByEmail(key).orElse(null)));
+        if (user == null) {
+            throw new UsernameNotFoundException("User not found");
+        }
+        return user;
     }
 
     public void addUser(UserDetail details){
         userDetailRepository.save(details);
+        evictUser(details.getEmail());
+    }
+
+    // Entry point for password or profile changes so the cache never serves stale credentials
+    @Transactional
+    public UserDetail updateUser(UserDetail details) {
+        UserDetail saved = userDetailRepository.save(details);
+        evictUser(details.getEmail());
+        return saved;
+    }
+
+    // Called by DaoAuthenticationProvider when the stored hash's cost differs from
+    // security.bcrypt.strength; the new hash was computed from the presented password
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserDetail stored = userDetailRepository.findByEmail(user.getUsername())
+            .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        stored.setPassword(newPassword);
+        return updateUser(stored);
+    }
+
+    // Invalidates every token issued to this user so far
+    @Transactional
+    public void revokeTokens(String email) {
+        userDetailRepository.incrementTokenVersion(email);
+        userDetailRepository.findByEmail(email)
+            .ifPresent(user -> recordVersionAfterCommit(email, user.getTokenVersion()));
+        evictUser(email);
+    }
+
+    // The registry never lowers a version, so recording one from a transaction
+    // that then rolls back would reject the user's live tokens until a restart
+    private void recordVersionAfterCommit(String email, int version) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            tokenVersionRegistry.recordVersion(email, version);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tokenVersionRegistry.recordVersion(email, version);
+            }
+        });
+    }
+
+    public void evictUser(String email) {
+        if (email == null) {
+            return;
+        }
+        userCache.invalidate(email);
+        // Evict again once the write is visible, so a concurrent load inside the
+        // transaction window cannot re-cache the old row
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userCache.invalidate(email);
+                }
+            });
+        }
     }
-}
\ No newline at end of file
+}
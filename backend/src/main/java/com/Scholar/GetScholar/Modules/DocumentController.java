@@ -0,0 +1,246 @@
+package com.Scholar.GetScholar.Modules;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.commons.fileupload2.core.DiskFileItem;
+import org.apache.commons.fileupload2.core.DiskFileItemFactory;
+import org.apache.commons.fileupload2.core.FileItemInput;
+import org.apache.commons.fileupload2.core.FileItemInputIterator;
+import org.apache.commons.fileupload2.jakarta.servlet6.JakartaServletFileUpload;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.Scholar.GetScholar.Database.ScholarshipApplication;
+import com.Scholar.GetScholar.Database.StoredDocument;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Documents attached to an application. Uploads are parsed as a stream
+// (spring.servlet.multipart is off): each "file" part goes straight from the
+// socket into DocumentStore, so a large PDF never sits in heap or in a container
+// temp file. Downloads hand the file to Tomcat's sendfile, i.e.
+// FileChannel.transferTo to the socket, and support single byte ranges.
+@RestController
+@RequestMapping("/api/applications/{applicationId}/documents")
+@CrossOrigin(origins = "*")
+public class DocumentController {
+
+    public static final int MAX_FILES_PER_UPLOAD = 10;
+
+    // Set by Tomcat's NIO connector; see org.apache.coyote.Constants
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private DocumentStore documentStore;
+
+    private Authentication getCurrentAuth() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || "anonymousUser".equals(auth.getPrincipal())) {
+            return null;
+        }
+        return auth;
+    }
+
+    // Only the applicant adds documents
+    @PostMapping
+    public ResponseEntity<?> upload(@PathVariable Long applicationId, HttpServletRequest request) {
+        try {
+            Authentication auth = getCurrentAuth();
+            if (auth == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "Authentication required"));
+            }
+
+            Optional<ScholarshipApplication> application = applicationService.getApplicationById(applicationId);
+            if (application.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Application not found"));
+            }
+            if (!application.get().getApplicantUsername().equals(auth.getName())) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "Access denied"));
+            }
+            if (!JakartaServletFileUpload.isMultipartContent(request)) {
+                return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Expected multipart/form-data with one or more \"file\" parts"));
+            }
+
+            List<StoredDocument> stored = new ArrayList<>();
+            FileItemInputIterator parts = new JakartaServletFileUpload<DiskFileItem, DiskFileItemFactory>()
+                .getItemIterator(request);
+            while (parts.hasNext()) {
+                FileItemInput part = parts.next();
+                // Other parts are skipped unread as the iterator advances
+                if (part.isFormField() || !"file".equals(part.getFieldName())) {
+                    continue;
+                }
+                if (stored.size() == MAX_FILES_PER_UPLOAD) {
+                    return ResponseEntity.badRequest()
+                        .body(Map.of("error", "At most " + MAX_FILES_PER_UPLOAD + " files per upload"));
+                }
+                try (InputStream in = part.getInputStream()) {
+                    stored.add(documentStore.store(in, part.getContentType()));
+                }
+            }
+            if (stored.isEmpty()) {
+                return ResponseEntity.badRequest()
+                    .body(Map.of("error", "No \"file\" part in the upload"));
+            }
+
+            documentStore.attach(applicationId, stored);
+            List<Map<String, Object>> body = new ArrayList<>();
+            for (StoredDocument document : stored) {
+                body.add(Map.of("ref", document.ref(), "sha256", document.sha256(),
+                    "sizeBytes", document.sizeBytes(), "contentType", document.contentType()));
+            }
+            return ResponseEntity.status(HttpStatus.CREATED).body(body);
+        } catch (DocumentTooLargeException e) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                .body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "Failed to upload documents: " + e.getMessage()));
+        }
+    }
+
+    // Same access as the application itself: the applicant or the scholarship owner.
+    // Returns null once the body has been handed to the container.
+    @GetMapping("/{sha256}")
+    public ResponseEntity<?> download(@PathVariable Long applicationId, @PathVariable String sha256,
+                                      HttpServletRequest request, HttpServletResponse response) {
+        try {
+            Authentication auth = getCurrentAuth();
+            if (auth == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "Authentication required"));
+            }
+
+            Optional<ScholarshipApplication> application = applicationService.getApplicationById(applicationId);
+            if (application.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Application not found"));
+            }
+            if (!applicationService.isApplicantOrOwner(application.get(), auth.getName())) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "Access denied"));
+            }
+
+            Optional<StoredDocument> found = documentStore.find(applicationId, sha256);
+            if (found.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Document not found"));
+            }
+            StoredDocument document = found.get();
+            long size = document.sizeBytes();
+
+            // Content-addressed, so the hash is a strong validator that never changes
+            String etag = "\"" + document.sha256() + "\"";
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=3600");
+            if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+                response.setStatus(HttpStatus.NOT_MODIFIED.value());
+                return null;
+            }
+
+            long start = 0;
+            long end = size - 1;
+            String range = request.getHeader(HttpHeaders.RANGE);
+            String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+            List<HttpRange> ranges = List.of();
+            if (range != null && (ifRange == null || ifRange.equals(etag))) {
+                try {
+                    ranges = HttpRange.parseRanges(range);
+                } catch (IllegalArgumentException e) {
+                    // Malformed Range headers are ignored, per RFC 9110
+                }
+            }
+            // Multiple ranges would need multipart/byteranges; serving the whole file is allowed
+            if (ranges.size() == 1) {
+                try {
+                    start = ranges.get(0).getRangeStart(size);
+                    end = ranges.get(0).getRangeEnd(size);
+                } catch (IllegalArgumentException e) {
+                    return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                        .build();
+                }
+                if (start > end) {
+                    return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                        .build();
+                }
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            } else {
+                response.setStatus(HttpStatus.OK.value());
+            }
+
+            response.setContentType(document.contentType());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + document.sha256().substring(0, 16) + "\"");
+            response.setHeader("X-Content-Type-Options", "nosniff");
+            response.setContentLengthLong(end - start + 1);
+            transfer(request, response, documentStore.path(document.sha256()), start, end + 1);
+            return null;
+        } catch (Exception e) {
+            if (response.isCommitted()) {
+                // Client went away mid-transfer; nothing left to send
+                return null;
+            }
+            response.reset();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "Failed to download document: " + e.getMessage()));
+        }
+    }
+
+    // [start, end) of the file. Tomcat's sendfile runs after the request returns and
+    // never copies through user space; without it (TLS, other containers, MockMvc)
+    // transferTo into the response stream copies through one small bounded buffer.
+    private static void transfer(HttpServletRequest request, HttpServletResponse response, Path file,
+                                 long start, long end) throws IOException {
+        if (end <= start) {
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position < end) {
+                position += channel.transferTo(position, end - position, out);
+            }
+        }
+    }
+}
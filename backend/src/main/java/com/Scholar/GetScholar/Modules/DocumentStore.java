@@ -0,0 +1,149 @@
+package com.Scholar.GetScholar.Modules;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.Scholar.GetScholar.Database.StoredDocument;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+// Content-addressed document files under documents.dir: each distinct content
+// is stored once, at <first two hex digits>/<sha256>. Uploads stream through a
+// fixed buffer into a temp file while being hashed, then are renamed into place,
+// so a file at its final path is always complete and a second upload of the
+// same bytes only costs the hashing. Nothing deletes documents; an upload whose
+// request fails after the rename leaves an unreferenced file behind.
+@Service
+public class DocumentStore {
+
+    private static final Pattern SHA256 = Pattern.compile("[0-9a-f]{64}");
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private static final String INSERT_DOCUMENT =
+        "INSERT INTO stored_documents (sha256, size_bytes, content_type, created_at) VALUES (?, ?, ?, ?) "
+        + "ON CONFLICT (sha256) DO NOTHING";
+    private static final String FIND_DOCUMENT =
+        "SELECT d.sha256, d.size_bytes, d.content_type FROM stored_documents d "
+        + "WHERE d.sha256 = ? AND EXISTS (SELECT 1 FROM application_documents ad "
+        + "WHERE ad.application_id = ? AND ad.document_path = ?)";
+    private static final String ATTACH_DOCUMENT =
+        "INSERT INTO application_documents (application_id, document_path) SELECT ?, ? "
+        + "WHERE NOT EXISTS (SELECT 1 FROM application_documents WHERE application_id = ? AND document_path = ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${documents.dir:data/documents}")
+    private Path root;
+
+    @Value("${documents.max-file-bytes:26214400}")
+    private long maxFileBytes;
+
+    private Path uploads;
+
+    @PostConstruct
+    void init() throws IOException {
+        uploads = Files.createDirectories(root.resolve("uploads"));
+    }
+
+    // Reads the stream to the end; throws DocumentTooLargeException past documents.max-file-bytes
+    public StoredDocument store(InputStream in, String contentType) throws IOException {
+        Path temp = Files.createTempFile(uploads, "upload-", ".part");
+        try {
+            MessageDigest sha256 = sha256();
+            byte[] buffer = new byte[BUFFER_BYTES];
+            ByteBuffer wrapped = ByteBuffer.wrap(buffer);
+            long size = 0;
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxFileBytes) {
+                        throw new DocumentTooLargeException(maxFileBytes);
+                    }
+                    sha256.update(buffer, 0, read);
+                    wrapped.clear().limit(read);
+                    while (wrapped.hasRemaining()) {
+                        out.write(wrapped);
+                    }
+                }
+                out.force(true);
+            }
+            String hash = HexFormat.of().formatHex(sha256.digest());
+            Path target = path(hash);
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                // rename(2) replaces a concurrent upload of the same content, which is harmless
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+            String type = mediaType(contentType);
+            jdbcTemplate.update(INSERT_DOCUMENT, hash, size, type, Timestamp.valueOf(LocalDateTime.now()));
+            return new StoredDocument(hash, size, type);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // Adds each document to the application's documentsSubmitted, once
+    @Transactional
+    public void attach(Long applicationId, List<StoredDocument> documents) {
+        List<Object[]> rows = new ArrayList<>();
+        for (StoredDocument document : documents) {
+            rows.add(new Object[] {applicationId, document.ref(), applicationId, document.ref()});
+        }
+        jdbcTemplate.batchUpdate(ATTACH_DOCUMENT, rows);
+    }
+
+    // Only documents the application references, so a hash alone grants nothing
+    public Optional<StoredDocument> find(Long applicationId, String sha256) {
+        if (!SHA256.matcher(sha256).matches()) {
+            return Optional.empty();
+        }
+        return jdbcTemplate.query(FIND_DOCUMENT,
+            (rs, rowNum) -> new StoredDocument(rs.getString(1), rs.getLong(2), rs.getString(3)),
+            sha256, applicationId, StoredDocument.REF_PREFIX + sha256).stream().findFirst();
+    }
+
+    public Path path(String sha256) {
+        return root.resolve(sha256.substring(0, 2)).resolve(sha256);
+    }
+
+    // The declared part type if it parses, since it is echoed back on download
+    private static String mediaType(String contentType) {
+        try {
+            return contentType == null ? MediaType.APPLICATION_OCTET_STREAM_VALUE
+                : MediaType.parseMediaType(contentType).toString();
+        } catch (IllegalArgumentException e) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
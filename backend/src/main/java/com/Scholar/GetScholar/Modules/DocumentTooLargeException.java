@@ -0,0 +1,9 @@
+package com.Scholar.GetScholar.Modules;
+
+// Raised while streaming an upload, as soon as it passes documents.max-file-bytes
+public class DocumentTooLargeException extends RuntimeException {
+
+    public DocumentTooLargeException(long maxBytes) {
+        super("Documents are limited to " + maxBytes + " bytes");
+    }
+}
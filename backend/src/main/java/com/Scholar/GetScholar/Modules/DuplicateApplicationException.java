@@ -0,0 +1,9 @@
+package com.Scholar.GetScholar.Modules;
+
+// Raised when the (applicant_username, scholarship_id) unique constraint rejects an insert
+public class DuplicateApplicationException extends RuntimeException {
+
+    public DuplicateApplicationException(Throwable cause) {
+        super("You have already applied for this scholarship", cause);
+    }
+}
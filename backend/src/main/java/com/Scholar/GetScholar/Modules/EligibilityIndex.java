@@ -0,0 +1,186 @@
+package com.Scholar.GetScholar.Modules;
+
+import com.Scholar.GetScholar.Database.Scholarship;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Immutable threshold index over one catalog snapshot.
+//
+// Scholarships are numbered ("ordinals") in ranking order: amount DESC, then
+// deadline ASC. Income and percentage thresholds are kept as sorted primitive
+// arrays, so each constraint resolves to a contiguous range via binary search.
+// The smaller range is scanned and checked against the other thresholds, and
+// matches are collected in a BitSet, which comes back out already ranked.
+public final class EligibilityIndex {
+
+    static final Comparator<Scholarship> RANKING = Comparator
+        .comparing((Scholarship s) -> s.getAmount() == null ? 0.0 : s.getAmount(), Comparator.reverseOrder())
+        .thenComparing(Scholarship::getApplicationDeadline, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(Scholarship::getId);
+
+    private final ActiveScholarshipCatalog.Snapshot source;
+    private final ActiveScholarshipCatalog.Entry[] entries;
+
+    // Per ordinal; a missing threshold means "no limit"
+    private final double[] maxIncome;
+    private final double[] minPercentage;
+    private final int[] category;
+    private final Map<String, Integer> categoryIds;
+
+    // maxIncome ascending, with the ordinal at each position
+    private final double[] incomeSorted;
+    private final int[] incomeOrdinals;
+
+    // minPercentage ascending, with the ordinal at each position
+    private final double[] percentageSorted;
+    private final int[] percentageOrdinals;
+
+    private EligibilityIndex(ActiveScholarshipCatalog.Snapshot source, List<ActiveScholarshipCatalog.Entry> ranked) {
+        this.source = source;
+        int n = ranked.size();
+        this.entries = ranked.toArray(new ActiveScholarshipCatalog.Entry[0]);
+        this.maxIncome = new double[n];
+        this.minPercentage = new double[n];
+        this.category = new int[n];
+        this.categoryIds = new HashMap<>();
+
+        for (int i = 0; i < n; i++) {
+            Scholarship scholarship = entries[i].scholarship();
+            maxIncome[i] = scholarship.getMaxFamilyIncome() == null
+                ? Double.POSITIVE_INFINITY : scholarship.getMaxFamilyIncome();
+            minPercentage[i] = scholarship.getMinPercentage() == null
+                ? Double.NEGATIVE_INFINITY : scholarship.getMinPercentage();
+            category[i] = scholarship.getCategory() == null
+                ? -1 : categoryIds.computeIfAbsent(normalize(scholarship.getCategory()), key -> categoryIds.size());
+        }
+
+        this.incomeOrdinals = sortedOrdinals(maxIncome);
+        this.incomeSorted = gather(maxIncome, incomeOrdinals);
+        this.percentageOrdinals = sortedOrdinals(minPercentage);
+        this.percentageSorted = gather(minPercentage, percentageOrdinals);
+    }
+
+    public static EligibilityIndex build(ActiveScholarshipCatalog.Snapshot snapshot) {
+        List<ActiveScholarshipCatalog.Entry> ranked = new ArrayList<>(snapshot.entries());
+        ranked.sort((a, b) -> RANKING.compare(a.scholarship(), b.scholarship()));
+        return new EligibilityIndex(snapshot, ranked);
+    }
+
+    public ActiveScholarshipCatalog.Snapshot source() {
+        return source;
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    // Best-ranked matches first, at most limit of them
+    public List<ActiveScholarshipCatalog.Entry> match(double familyIncome, double academicPercentage,
+                                                       String categoryFilter, int limit) {
+        int wantedCategory = -2;
+        if (categoryFilter != null && !categoryFilter.isBlank()) {
+            Integer id = categoryIds.get(normalize(categoryFilter));
+            if (id == null) {
+                return List.of();
+            }
+            wantedCategory = id;
+        }
+
+        // Eligible on income: every maxIncome >= familyIncome -> suffix [incomeFrom, n)
+        int incomeFrom = lowerBound(incomeSorted, familyIncome);
+        // Eligible on percentage: every minPercentage <= academicPercentage -> prefix [0, percentageTo)
+        int percentageTo = upperBound(percentageSorted, academicPercentage);
+
+        BitSet matches = new BitSet(entries.length);
+        if (entries.length - incomeFrom <= percentageTo) {
+            for (int i = incomeFrom; i < incomeOrdinals.length; i++) {
+                int ordinal = incomeOrdinals[i];
+                if (minPercentage[ordinal] <= academicPercentage && categoryMatches(ordinal, wantedCategory)) {
+                    matches.set(ordinal);
+                }
+            }
+        } else {
+            for (int i = 0; i < percentageTo; i++) {
+                int ordinal = percentageOrdinals[i];
+                if (maxIncome[ordinal] >= familyIncome && categoryMatches(ordinal, wantedCategory)) {
+                    matches.set(ordinal);
+                }
+            }
+        }
+
+        List<ActiveScholarshipCatalog.Entry> result = new ArrayList<>(Math.min(limit, matches.cardinality()));
+        for (int ordinal = matches.nextSetBit(0); ordinal >= 0 && result.size() < limit;
+             ordinal = matches.nextSetBit(ordinal + 1)) {
+            result.add(entries[ordinal]);
+        }
+        return result;
+    }
+
+    private boolean categoryMatches(int ordinal, int wantedCategory) {
+        return wantedCategory == -2 || category[ordinal] == wantedCategory;
+    }
+
+    private static String normalize(String category) {
+        return category.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static int[] sortedOrdinals(double[] values) {
+        // Build time only; the query path touches primitive arrays exclusively
+        int n = values.length;
+        Integer[] boxed = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            boxed[i] = i;
+        }
+        Arrays.sort(boxed, (a, b) -> Double.compare(values[a], values[b]));
+        int[] ordinals = new int[n];
+        for (int i = 0; i < n; i++) {
+            ordinals[i] = boxed[i];
+        }
+        return ordinals;
+    }
+
+    private static double[] gather(double[] values, int[] ordinals) {
+        double[] sorted = new double[ordinals.length];
+        for (int i = 0; i < ordinals.length; i++) {
+            sorted[i] = values[ordinals[i]];
+        }
+        return sorted;
+    }
+
+    // First index with sorted[i] >= key
+    private static int lowerBound(double[] sorted, double key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // First index with sorted[i] > key
+    private static int upperBound(double[] sorted, double key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
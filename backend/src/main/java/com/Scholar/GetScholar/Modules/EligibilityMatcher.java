@@ -0,0 +1,34 @@
+package com.Scholar.GetScholar.Modules;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Matches an applicant profile against the active catalog. The index is rebuilt
+// lazily whenever the catalog publishes a new snapshot.
+@Component
+public class EligibilityMatcher {
+
+    @Autowired
+    private ActiveScholarshipCatalog catalog;
+
+    private final AtomicReference<EligibilityIndex> index = new AtomicReference<>();
+
+    public List<ActiveScholarshipCatalog.Entry> findEligible(double familyIncome, double academicPercentage,
+                                                             String category, int limit) {
+        return currentIndex().match(familyIncome, academicPercentage, category, limit);
+    }
+
+    private EligibilityIndex currentIndex() {
+        ActiveScholarshipCatalog.Snapshot snapshot = catalog.snapshot();
+        EligibilityIndex existing = index.get();
+        if (existing != null && existing.source() == snapshot) {
+            return existing;
+        }
+        EligibilityIndex rebuilt = EligibilityIndex.build(snapshot);
+        index.compareAndSet(existing, rebuilt);
+        return rebuilt;
+    }
+}
@@ -0,0 +1,291 @@
+package com.Scholar.GetScholar.Modules;
+
+import com.Scholar.GetScholar.Database.Scholarship;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Immutable facet index over one catalog snapshot.
+//
+// Ordinals are positions in the snapshot, i.e. catalog order (created_at DESC,
+// id DESC), so a filtered page is just the next set bits after the cursor. Every
+// facet value owns a bitset (a plain long[]); a filter is the AND of the selected
+// facets, each the OR of its selected values. Counts follow multi-select
+// semantics: a facet is counted against every filter except its own, so the UI
+// can show what each alternative value would yield.
+//
+// Building is a single pass with no sorting, so the index is simply rebuilt for
+// each snapshot a ScholarshipService write produces; positional bitsets would
+// have to shift on every insert anyway.
+public final class FacetIndex {
+
+    public enum Facet {
+        CATEGORY("category"),
+        AMOUNT("amountBand"),
+        DEADLINE("deadline"),
+        INCOME("incomeBand"),
+        PERCENTAGE("percentageBand");
+
+        private final String param;
+
+        Facet(String param) {
+            this.param = param;
+        }
+
+        public String param() {
+            return param;
+        }
+    }
+
+    // Selected values per facet (OR within a facet) and an optional amount range
+    public record Selection(Map<Facet, List<String>> values, Double minAmount, Double maxAmount) {}
+
+    public record Result(List<ActiveScholarshipCatalog.Entry> page, int total,
+                         Map<String, Map<String, Integer>> facets, KeysetCursor nextCursor) {}
+
+    // Bands are [lower, upper) on the scholarship's own value
+    private static final double[] AMOUNT_BOUNDS = {1_000, 5_000, 10_000, 25_000};
+    private static final String[] AMOUNT_BANDS = {"under-1000", "1000-5000", "5000-10000", "10000-25000", "over-25000"};
+    private static final long[] DEADLINE_BOUNDS = {8, 31, 91};
+    private static final String[] DEADLINE_WINDOWS = {"0-7-days", "8-30-days", "31-90-days", "later"};
+    private static final double[] INCOME_BOUNDS = {250_000, 500_000, 1_000_000};
+    private static final String[] INCOME_BANDS = {"up-to-250000", "up-to-500000", "up-to-1000000", "over-1000000",
+        "no-limit"};
+    private static final double[] PERCENTAGE_BOUNDS = {60, 75, 90};
+    private static final String[] PERCENTAGE_BANDS = {"under-60", "60-75", "75-90", "90-100", "no-minimum"};
+
+    private final ActiveScholarshipCatalog.Snapshot source;
+    private final List<ActiveScholarshipCatalog.Entry> entries;
+    private final int words;
+    private final long[] all;
+    private final Map<Facet, Map<String, long[]>> bitsets;
+
+    // Per ordinal, for minAmount/maxAmount
+    private final double[] amounts;
+
+    private FacetIndex(ActiveScholarshipCatalog.Snapshot source) {
+        this.source = source;
+        this.entries = source.entries();
+        int n = entries.size();
+        this.words = (n + 63) >>> 6;
+        this.all = new long[words];
+        for (int ordinal = 0; ordinal < n; ordinal++) {
+            set(all, ordinal);
+        }
+
+        this.bitsets = new EnumMap<>(Facet.class);
+        bitsets.put(Facet.CATEGORY, new HashMap<>());
+        bitsets.put(Facet.AMOUNT, bands(AMOUNT_BANDS));
+        bitsets.put(Facet.DEADLINE, bands(DEADLINE_WINDOWS));
+        bitsets.put(Facet.INCOME, bands(INCOME_BANDS));
+        bitsets.put(Facet.PERCENTAGE, bands(PERCENTAGE_BANDS));
+
+        this.amounts = new double[n];
+        LocalDate day = source.day();
+        for (int ordinal = 0; ordinal < n; ordinal++) {
+            Scholarship scholarship = entries.get(ordinal).scholarship();
+            if (scholarship.getCategory() != null && !scholarship.getCategory().isBlank()) {
+                set(bitsets.get(Facet.CATEGORY).computeIfAbsent(normalize(scholarship.getCategory()),
+                    key -> new long[words]), ordinal);
+            }
+            amounts[ordinal] = scholarship.getAmount() == null ? 0 : scholarship.getAmount();
+            set(bitsets.get(Facet.AMOUNT).get(AMOUNT_BANDS[band(AMOUNT_BOUNDS, amounts[ordinal])]), ordinal);
+            if (scholarship.getApplicationDeadline() != null) {
+                long days = ChronoUnit.DAYS.between(day, scholarship.getApplicationDeadline());
+                set(bitsets.get(Facet.DEADLINE).get(DEADLINE_WINDOWS[band(DEADLINE_BOUNDS, days)]), ordinal);
+            }
+            // Thresholds are inclusive limits, so an income of exactly 250000 is "up to 250000"
+            String income = scholarship.getMaxFamilyIncome() == null ? "no-limit"
+                : INCOME_BANDS[band(INCOME_BOUNDS, Math.nextDown(scholarship.getMaxFamilyIncome()))];
+            set(bitsets.get(Facet.INCOME).get(income), ordinal);
+            String percentage = scholarship.getMinPercentage() == null ? "no-minimum"
+                : PERCENTAGE_BANDS[band(PERCENTAGE_BOUNDS, scholarship.getMinPercentage())];
+            set(bitsets.get(Facet.PERCENTAGE).get(percentage), ordinal);
+        }
+    }
+
+    public static FacetIndex build(ActiveScholarshipCatalog.Snapshot snapshot) {
+        return new FacetIndex(snapshot);
+    }
+
+    public ActiveScholarshipCatalog.Snapshot source() {
+        return source;
+    }
+
+    // An unknown band name is a client error; an unknown category just matches nothing
+    public Result query(Selection selection, KeysetCursor cursor, int limit) {
+        Map<Facet, long[]> selected = new EnumMap<>(Facet.class);
+        for (Map.Entry<Facet, List<String>> facet : selection.values().entrySet()) {
+            if (facet.getValue() == null || facet.getValue().isEmpty()) {
+                continue;
+            }
+            long[] union = new long[words];
+            for (String value : facet.getValue()) {
+                String key = facet.getKey() == Facet.CATEGORY ? normalize(value) : value.trim();
+                long[] bits = bitsets.get(facet.getKey()).get(key);
+                if (bits == null) {
+                    if (facet.getKey() != Facet.CATEGORY) {
+                        throw new IllegalArgumentException("Unknown " + facet.getKey().param() + " '" + value + "'");
+                    }
+                    continue;
+                }
+                or(union, bits);
+            }
+            selected.put(facet.getKey(), union);
+        }
+        long[] amountRange = amountRange(selection.minAmount(), selection.maxAmount());
+
+        long[] matches = all.clone();
+        if (amountRange != null) {
+            and(matches, amountRange);
+        }
+        for (long[] bits : selected.values()) {
+            and(matches, bits);
+        }
+
+        Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+        for (Facet facet : Facet.values()) {
+            long[] others = all.clone();
+            if (amountRange != null) {
+                and(others, amountRange);
+            }
+            for (Map.Entry<Facet, long[]> other : selected.entrySet()) {
+                if (other.getKey() != facet) {
+                    and(others, other.getValue());
+                }
+            }
+            facets.put(facet.param(), counts(facet, others));
+        }
+
+        int from = cursor == null ? 0 : ActiveScholarshipCatalog.firstAfter(entries, cursor.createdAt(), cursor.id());
+        List<ActiveScholarshipCatalog.Entry> page = new ArrayList<>(Math.min(limit, entries.size()));
+        int ordinal = nextSetBit(matches, from);
+        while (ordinal >= 0 && page.size() < limit) {
+            page.add(entries.get(ordinal));
+            ordinal = nextSetBit(matches, ordinal + 1);
+        }
+        KeysetCursor next = null;
+        if (ordinal >= 0 && !page.isEmpty()) {
+            Scholarship last = page.get(page.size() - 1).scholarship();
+            next = new KeysetCursor(last.getCreatedAt(), last.getId());
+        }
+        return new Result(page, cardinality(matches), facets, next);
+    }
+
+    private Map<String, Integer> counts(Facet facet, long[] filter) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (Map.Entry<String, long[]> value : bitsets.get(facet).entrySet()) {
+            counts.put(value.getKey(), andCardinality(filter, value.getValue()));
+        }
+        if (facet == Facet.CATEGORY) {
+            // Bands keep their natural order; categories come most common first
+            Map<String, Integer> byCount = new LinkedHashMap<>();
+            counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> byCount.put(entry.getKey(), entry.getValue()));
+            return byCount;
+        }
+        return counts;
+    }
+
+    private long[] amountRange(Double minAmount, Double maxAmount) {
+        if (minAmount == null && maxAmount == null) {
+            return null;
+        }
+        // A primitive scan is ~0.1 ms at 100k; keeping a sorted copy would make every rebuild sort
+        double min = minAmount == null ? Double.NEGATIVE_INFINITY : minAmount;
+        double max = maxAmount == null ? Double.POSITIVE_INFINITY : maxAmount;
+        long[] range = new long[words];
+        for (int ordinal = 0; ordinal < amounts.length; ordinal++) {
+            if (amounts[ordinal] >= min && amounts[ordinal] <= max) {
+                set(range, ordinal);
+            }
+        }
+        return range;
+    }
+
+    private Map<String, long[]> bands(String[] labels) {
+        Map<String, long[]> bands = new LinkedHashMap<>();
+        for (String label : labels) {
+            bands.put(label, new long[words]);
+        }
+        return bands;
+    }
+
+    // Index of the band [bounds[i - 1], bounds[i]) holding value
+    private static int band(double[] bounds, double value) {
+        int band = 0;
+        while (band < bounds.length && value >= bounds[band]) {
+            band++;
+        }
+        return band;
+    }
+
+    private static int band(long[] bounds, long value) {
+        int band = 0;
+        while (band < bounds.length && value >= bounds[band]) {
+            band++;
+        }
+        return band;
+    }
+
+    private static String normalize(String category) {
+        return category.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void set(long[] bits, int ordinal) {
+        bits[ordinal >>> 6] |= 1L << ordinal;
+    }
+
+    private static void and(long[] target, long[] other) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] &= other[i];
+        }
+    }
+
+    private static void or(long[] target, long[] other) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] |= other[i];
+        }
+    }
+
+    private static int cardinality(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static int andCardinality(long[] a, long[] b) {
+        int count = 0;
+        for (int i = 0; i < a.length; i++) {
+            count += Long.bitCount(a[i] & b[i]);
+        }
+        return count;
+    }
+
+    private static int nextSetBit(long[] bits, int from) {
+        int word = from >>> 6;
+        if (word >= bits.length) {
+            return -1;
+        }
+        long current = bits[word] & (-1L << from);
+        while (true) {
+            if (current != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(current);
+            }
+            if (++word == bits.length) {
+                return -1;
+            }
+            current = bits[word];
+        }
+    }
+}
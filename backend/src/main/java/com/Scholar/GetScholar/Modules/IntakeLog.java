@@ -0,0 +1,290 @@
+package com.Scholar.GetScholar.Modules;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+// Append-only write-ahead log over fixed-size memory-mapped segment files.
+//
+// Record layout: [int length][int crc32c][long sequence][payload]. A fresh
+// segment is zero-filled, so a zero length marks the end of data; a bad length
+// or checksum marks a torn write and everything after it is discarded on open.
+// The "checkpoint" file holds the highest sequence already applied downstream;
+// segments entirely at or below it are deleted.
+//
+// Appends are serialized; the fsync is group-committed, so concurrent appenders
+// share one force() of the mapped range. Locks are ReentrantLocks rather than
+// monitors so that a virtual thread waiting on a force() does not pin its carrier.
+final class IntakeLog implements Closeable {
+
+    record Record(long sequence, byte[] payload) {}
+
+    private static final int HEADER_BYTES = 16;
+    private static final String SEGMENT_SUFFIX = ".wal";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final boolean fsync;
+
+    private final List<Segment> segments = new ArrayList<>();
+    private Segment active;
+    private long nextSequence;
+    private volatile long checkpoint;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock checkpointLock = new ReentrantLock();
+
+    IntakeLog(Path directory, int segmentBytes, boolean fsync) throws IOException {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.fsync = fsync;
+        Files.createDirectories(directory);
+        this.checkpoint = readCheckpoint();
+
+        long lastSequence = checkpoint;
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX)).sorted().toList();
+        }
+        for (Path file : files) {
+            Segment segment = Segment.open(file, segmentBytes);
+            segments.add(segment);
+            if (segment.lastSequence > 0) {
+                lastSequence = Math.max(lastSequence, segment.lastSequence);
+            }
+        }
+        this.nextSequence = lastSequence + 1;
+        this.active = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+    }
+
+    // Durable (when fsync is on) by the time it returns
+    long append(byte[] payload) throws IOException {
+        int recordBytes = HEADER_BYTES + payload.length;
+        if (recordBytes > segmentBytes) {
+            throw new IllegalArgumentException("Record of " + payload.length + " bytes exceeds the segment size");
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+
+        Segment segment;
+        long sequence;
+        int end;
+        lock.lock();
+        try {
+            if (active == null || active.written + recordBytes > segmentBytes) {
+                roll();
+            }
+            segment = active;
+            sequence = nextSequence++;
+            int offset = segment.written;
+            segment.buffer.putInt(offset, payload.length);
+            segment.buffer.putInt(offset + 4, (int) crc.getValue());
+            segment.buffer.putLong(offset + 8, sequence);
+            segment.buffer.put(offset + HEADER_BYTES, payload);
+            end = offset + recordBytes;
+            segment.lastSequence = sequence;
+            segment.written = end;
+        } finally {
+            lock.unlock();
+        }
+        if (fsync) {
+            segment.syncTo(end);
+        }
+        return sequence;
+    }
+
+    // Every record above the given sequence, oldest first
+    List<Record> replay(long afterSequence) {
+        lock.lock();
+        try {
+            List<Record> records = new ArrayList<>();
+            for (Segment segment : segments) {
+                segment.read(afterSequence, records);
+            }
+            return records;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long checkpoint() {
+        return checkpoint;
+    }
+
+    // Marks everything up to sequence as applied and drops fully applied
+    // segments. Called by the single drainer; appends are not blocked meanwhile.
+    void checkpoint(long sequence) throws IOException {
+        checkpointLock.lock();
+        try {
+            if (sequence <= checkpoint) {
+                return;
+            }
+            Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, sequence));
+                if (fsync) {
+                    channel.force(true);
+                }
+            }
+            Files.move(temp, directory.resolve(CHECKPOINT_FILE), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+            checkpoint = sequence;
+        } finally {
+            checkpointLock.unlock();
+        }
+
+        List<Segment> drained = new ArrayList<>();
+        lock.lock();
+        try {
+            while (segments.size() > 1 && segments.get(0).lastSequence <= sequence) {
+                drained.add(segments.remove(0));
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (Segment segment : drained) {
+            segment.close();
+            Files.deleteIfExists(segment.file);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            for (Segment segment : segments) {
+                if (fsync) {
+                    segment.syncTo(segment.written);
+                }
+                segment.close();
+            }
+            segments.clear();
+            active = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void roll() throws IOException {
+        if (active != null && fsync) {
+            active.syncTo(active.written);
+        }
+        Path file = directory.resolve(String.format("%020d%s", nextSequence, SEGMENT_SUFFIX));
+        active = Segment.open(file, segmentBytes);
+        segments.add(active);
+    }
+
+    private long readCheckpoint() throws IOException {
+        Path file = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        return bytes.length == Long.BYTES ? ByteBuffer.wrap(bytes).getLong() : 0;
+    }
+
+    private static final class Segment {
+
+        final Path file;
+        final FileChannel channel;
+        final MappedByteBuffer buffer;
+        // Guarded by the log; read unlocked by syncTo
+        volatile int written;
+        volatile long lastSequence;
+        // Guarded by syncLock
+        private final ReentrantLock syncLock = new ReentrantLock();
+        private int synced;
+
+        private Segment(Path file, FileChannel channel, MappedByteBuffer buffer) {
+            this.file = file;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment open(Path file, int segmentBytes) throws IOException {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                Math.max(segmentBytes, channel.size()));
+            Segment segment = new Segment(file, channel, buffer);
+            segment.recover();
+            return segment;
+        }
+
+        // Finds the end of the valid records and zeroes any torn tail behind it
+        private void recover() {
+            int offset = 0;
+            while (offset + HEADER_BYTES <= buffer.capacity()) {
+                int length = buffer.getInt(offset);
+                if (length <= 0 || offset + HEADER_BYTES + length > buffer.capacity()
+                        || !checksumMatches(offset, length)) {
+                    break;
+                }
+                lastSequence = buffer.getLong(offset + 8);
+                offset += HEADER_BYTES + length;
+            }
+            written = offset;
+            synced = offset;
+            // Pages after a torn record may have reached disk out of order; wipe
+            // them so nothing stale can line up behind the next append
+            if (offset > 0 || buffer.getInt(0) != 0) {
+                byte[] zeros = new byte[64 * 1024];
+                for (int at = offset; at < buffer.capacity(); at += zeros.length) {
+                    buffer.put(at, zeros, 0, Math.min(zeros.length, buffer.capacity() - at));
+                }
+            }
+        }
+
+        void read(long afterSequence, List<Record> into) {
+            int offset = 0;
+            while (offset < written) {
+                int length = buffer.getInt(offset);
+                long sequence = buffer.getLong(offset + 8);
+                if (sequence > afterSequence) {
+                    byte[] payload = new byte[length];
+                    buffer.get(offset + HEADER_BYTES, payload);
+                    into.add(new Record(sequence, payload));
+                }
+                offset += HEADER_BYTES + length;
+            }
+        }
+
+        private boolean checksumMatches(int offset, int length) {
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.slice(offset + HEADER_BYTES, length));
+            return (int) crc.getValue() == buffer.getInt(offset + 4);
+        }
+
+        // Whoever gets here first forces everything written so far, covering
+        // the appenders queued behind it
+        void syncTo(int end) {
+            syncLock.lock();
+            try {
+                if (synced >= end) {
+                    return;
+                }
+                int target = written;
+                buffer.force(synced, target - synced);
+                synced = target;
+            } finally {
+                syncLock.unlock();
+            }
+        }
+
+        void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.Scholar.GetScholar.Modules;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+// Position in a (created_at DESC, id DESC) ordered list. Serialized as an opaque
+// URL-safe token; clients only ever echo back what X-Next-Cursor gave them.
+public record KeysetCursor(LocalDateTime createdAt, Long id) {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // null/blank -> first page; anything malformed -> IllegalArgumentException
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public static int clampLimit(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    // Repositories are asked for one extra row so we know whether another page exists
+    public static Pageable probe(int limit) {
+        return PageRequest.of(0, limit + 1);
+    }
+
+    public static <T> ResponseEntity<List<T>> page(List<T> rows, int limit, Function<T, KeysetCursor> keyOf) {
+        if (rows.size() <= limit) {
+            return ResponseEntity.ok(rows);
+        }
+        List<T> items = rows.subList(0, limit);
+        return ResponseEntity.ok()
+            .header(NEXT_CURSOR_HEADER, keyOf.apply(items.get(limit - 1)).encode())
+            .body(items);
+    }
+}
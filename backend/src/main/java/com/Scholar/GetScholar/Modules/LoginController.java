@@ -1,15 +1,20 @@
 package com.Scholar.GetScholar.Modules;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -19,7 +24,14 @@ import org.springframework.web.bind.annotation.RestController;
 import com.Scholar.GetScholar.Database.UserDetail;
 import com.Scholar.GetScholar.Security.AuthRequest;
 import com.Scholar.GetScholar.Security.AuthResponse;
+import com.Scholar.GetScholar.Security.JwtKeyRing;
 import com.Scholar.GetScholar.Security.JwtUtil;
+import com.Scholar.GetScholar.Security.PasswordHashingExecutor;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/auth")
@@ -38,29 +50,84 @@ public class LoginController {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private JwtKeyRing jwtKeyRing;
+
+    @Autowired
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    // Boot's general-purpose executor (virtual threads when spring.threads.virtual.enabled)
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor applicationTaskExecutor;
+
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody AuthRequest request) {
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody AuthRequest request) {
         try {
-            System.out.println(request.getEmail()+","+request.getPassword());
-            Authentication auth = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
-            );
-            UserDetails userDetails = (UserDetails) auth.getPrincipal();
-           
-            String token = jwtUtil.generateToken(userDetails.getUsername());
-            return ResponseEntity.ok(new AuthResponse(token));
-        } catch (AuthenticationException e) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid email or password");
+            // BCrypt verification (and any cost-change rehash) runs off the request thread
+            return passwordHashingExecutor.submit("login", () -> authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
+                ))
+                .handle((auth, error) -> {
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                        if (cause instanceof AuthenticationException) {
+                            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid email or password");
+                        }
+                        throw new CompletionException(cause);
+                    }
+                    UserDetails userDetails = (UserDetails) auth.getPrincipal();
+
+                    String token = userDetails instanceof UserDetail user
+                        ? jwtUtil.generateToken(user)
+                        : jwtUtil.generateToken(userDetails.getUsername());
+                    return ResponseEntity.ok(new AuthResponse(token));
+                });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(tooManyRequests());
         }
 
     }
 
     @PostMapping("/register")
-    public String registerUser(@RequestBody UserDetail details) {
-        System.out.println(details.getName()+","+details.getEmail()+","+details.getPassword());
-        details.setPassword(passwordEncoder.encode(details.getPassword()));
-        customUserDetailsService.addUser(details);
-        return "Registered successfully";
+    public CompletableFuture<ResponseEntity<?>> registerUser(@RequestBody UserDetail details) {
+        try {
+            // The insert waits on the database, so it runs off the bcrypt pool, whose
+            // threads and 429 admission are sized for hashing alone
+            return passwordHashingExecutor.submit("register", () -> passwordEncoder.encode(details.getPassword()))
+                .thenApplyAsync(encoded -> {
+                    details.setPassword(encoded);
+                    customUserDetailsService.addUser(details);
+                    return ResponseEntity.ok("Registered successfully");
+                }, applicationTaskExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(tooManyRequests());
+        }
+    }
+
+    private ResponseEntity<?> tooManyRequests() {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(Map.of("error", "Too many authentication requests, please retry shortly"));
+    }
+
+    @PostMapping("/logout-all")
+    public ResponseEntity<?> logoutAll() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || "anonymousUser".equals(auth.getPrincipal())) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(Map.of("error", "Authentication required"));
+        }
+        customUserDetailsService.revokeTokens(auth.getName());
+        return ResponseEntity.ok(Map.of("message", "All sessions revoked"));
+    }
+
+    // Public EC keys, so other services can verify our tokens without the signing secret
+    @GetMapping("/jwks.json")
+    public ResponseEntity<?> jwks() {
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CACHE_CONTROL, "max-age=300")
+            .body(jwtKeyRing.publicJwks());
     }
     
 }
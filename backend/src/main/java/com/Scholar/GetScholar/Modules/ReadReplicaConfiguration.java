@@ -0,0 +1,132 @@
+package com.Scholar.GetScholar.Modules;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Replaces Boot's single pool with a primary pool plus one pool per
+// datasource.replicas.urls entry (same credentials and spring.datasource.hikari.*
+// settings). The DataSource bean is a LazyConnectionDataSourceProxy: a
+// transaction's connection is only fetched at its first statement, after
+// @Transactional(readOnly = true) has marked it read-only, and read-only
+// connections come from ReadReplicaDataSource. Everything else, including
+// Flyway and the JdbcTemplate work outside read-only transactions, stays on the
+// primary.
+@Configuration
+@ConditionalOnProperty(name = "datasource.replicas.enabled", havingValue = "true")
+public class ReadReplicaConfiguration {
+
+    // Seconds since the last replayed transaction, or 0 when the replica has
+    // replayed everything it received (an idle primary is not lag) or is not in
+    // recovery at all
+    public static final String DEFAULT_LAG_QUERY =
+        "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+        + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${datasource.replicas.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${datasource.replicas.max-lag-ms:1000}")
+    private long maxLagMillis;
+
+    @Value("${datasource.replicas.read-your-writes-ms:5000}")
+    private long readYourWritesMillis;
+
+    @Value("${datasource.replicas.lag-query:}")
+    private String lagQuery;
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    private ReadReplicaDataSource readReplicas;
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties) {
+        HikariDataSource primary = pool(properties, properties.determineUrl(), "primary");
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (!url.isBlank()) {
+                HikariDataSource replica = pool(properties, url.trim(), "replica-" + (replicas.size() + 1));
+                // A replica that is down at startup only drops out of rotation
+                replica.setInitializationFailTimeout(-1);
+                replica.setReadOnly(true);
+                replicas.add(replica);
+            }
+        }
+        if (replicas.isEmpty()) {
+            throw new IllegalStateException("datasource.replicas.enabled is set but datasource.replicas.urls is empty");
+        }
+        readReplicas = new ReadReplicaDataSource(primary, replicas, Duration.ofMillis(maxLagMillis),
+            Duration.ofMillis(readYourWritesMillis));
+        if (meterRegistry != null) {
+            for (int i = 0; i < replicas.size(); i++) {
+                int replica = i;
+                TimeGauge.builder("datasource.replica.lag", readReplicas, TimeUnit.MILLISECONDS, routing -> {
+                        long lag = routing.lagMillis(replica);
+                        return lag == ReadReplicaDataSource.UNREACHABLE ? Double.NaN : lag;
+                    })
+                    .tag("replica", "replica-" + (replica + 1))
+                    .register(meterRegistry);
+            }
+        }
+        checkReplicaLag();
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(readReplicas.writeTracking());
+        dataSource.setReadOnlyDataSource(readReplicas);
+        return dataSource;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replicas.lag-check-ms:1000}",
+               initialDelayString = "${datasource.replicas.lag-check-ms:1000}")
+    public void checkReplicaLag() {
+        if (readReplicas != null) {
+            readReplicas.checkLag(lagQuery.isBlank() ? DEFAULT_LAG_QUERY : lagQuery);
+        }
+    }
+
+    @PreDestroy
+    public void closePools() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    private HikariDataSource pool(DataSourceProperties properties, String url, String name) {
+        HikariConfig config = new HikariConfig();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(config));
+        config.setJdbcUrl(url);
+        config.setUsername(properties.determineUsername());
+        config.setPassword(properties.determinePassword());
+        config.setPoolName(name);
+        if (meterRegistry != null) {
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        }
+        HikariDataSource pool = new HikariDataSource();
+        config.copyStateTo(pool);
+        pools.add(pool);
+        return pool;
+    }
+}
@@ -0,0 +1,204 @@
+package com.Scholar.GetScholar.Modules;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+// Read-only side of the LazyConnectionDataSourceProxy set up by
+// ReadReplicaConfiguration: connections for read-only transactions come from the
+// replicas, round robin, skipping any whose last measured lag is over the budget.
+// Falls back to the primary when no replica qualifies, inside onPrimary, and for
+// a window after the current user's last committed write, so a user always reads
+// what they just wrote.
+public class ReadReplicaDataSource extends AbstractDataSource {
+
+    private static final Log logger = LogFactory.getLog(ReadReplicaDataSource.class);
+
+    public static final long UNREACHABLE = Long.MAX_VALUE;
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final long maxLagMillis;
+    // Last measured lag per replica; unusable until the first check succeeds
+    private final AtomicLongArray lagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+    // Users with a write committed within the read-your-writes window
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadReplicaDataSource(DataSource primary, List<DataSource> replicas, Duration maxLag,
+                                 Duration readYourWrites) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.maxLagMillis = maxLag.toMillis();
+        this.lagMillis = new AtomicLongArray(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            lagMillis.set(i, UNREACHABLE);
+        }
+        this.recentWriters = Caffeine.newBuilder()
+            .expireAfterWrite(readYourWrites)
+            .maximumSize(100_000)
+            .build();
+    }
+
+    // Runs work against the primary even inside read-only transactions, for reads
+    // that must see writes from other users or from before they logged in
+    public static <T> T onPrimary(Supplier<T> work) {
+        if (FORCE_PRIMARY.get() != null) {
+            return work.get();
+        }
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            FORCE_PRIMARY.remove();
+        }
+    }
+
+    // The primary as seen by read-write work: remembers who wrote, once it commits
+    public DataSource writeTracking() {
+        return new DelegatingDataSource(primary) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                recordWrite();
+                return super.getConnection();
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                recordWrite();
+                return super.getConnection(username, password);
+            }
+        };
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        int replica = choose();
+        if (replica < 0) {
+            return primary.getConnection();
+        }
+        try {
+            return replicas.get(replica).getConnection();
+        } catch (SQLException e) {
+            markUnreachable(replica, e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        int replica = choose();
+        if (replica < 0) {
+            return primary.getConnection(username, password);
+        }
+        try {
+            return replicas.get(replica).getConnection(username, password);
+        } catch (SQLException e) {
+            markUnreachable(replica, e);
+            return primary.getConnection(username, password);
+        }
+    }
+
+    public int replicaCount() {
+        return replicas.size();
+    }
+
+    public long lagMillis(int replica) {
+        return lagMillis.get(replica);
+    }
+
+    // Measures every replica's lag with lagQuery, which returns seconds behind the primary
+    public void checkLag(String lagQuery) {
+        for (int i = 0; i < replicas.size(); i++) {
+            try (Connection connection = replicas.get(i).getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet result = statement.executeQuery(lagQuery)) {
+                long lag = result.next() ? Math.round(result.getDouble(1) * 1000) : 0;
+                long previous = lagMillis.getAndSet(i, lag);
+                if (previous > maxLagMillis && lag <= maxLagMillis) {
+                    logger.info("Read replica " + (i + 1) + " back in rotation, " + lag + " ms behind");
+                } else if (previous <= maxLagMillis && lag > maxLagMillis) {
+                    logger.warn("Read replica " + (i + 1) + " is " + lag + " ms behind, over the "
+                        + maxLagMillis + " ms budget; reads go elsewhere");
+                }
+            } catch (SQLException e) {
+                markUnreachable(i, e);
+            }
+        }
+    }
+
+    // Index of the replica to read from, or -1 for the primary
+    private int choose() {
+        if (FORCE_PRIMARY.get() != null) {
+            return -1;
+        }
+        String user = currentUser();
+        if (user != null && recentWriters.getIfPresent(user) != null) {
+            return -1;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            int replica = (start + i) % replicas.size();
+            if (lagMillis.get(replica) <= maxLagMillis) {
+                return replica;
+            }
+        }
+        return -1;
+    }
+
+    private void recordWrite() {
+        String user = currentUser();
+        if (user == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recentWriters.put(user, Boolean.TRUE);
+            return;
+        }
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        // The window starts when the write becomes visible on the primary
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(user, Boolean.TRUE);
+            }
+        });
+    }
+
+    private void markUnreachable(int replica, SQLException e) {
+        if (lagMillis.getAndSet(replica, UNREACHABLE) != UNREACHABLE) {
+            logger.warn("Read replica " + (replica + 1) + " unreachable, reads go elsewhere: " + e.getMessage());
+        }
+    }
+
+    private static String currentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return auth.getName();
+    }
+}
@@ -0,0 +1,8 @@
+package com.Scholar.GetScholar.Modules;
+
+import com.Scholar.GetScholar.Database.Scholarship;
+
+// Published by ScholarshipService on every create/update (including status
+// changes). In-memory read models listen for it after the transaction commits.
+public record ScholarshipChangedEvent(Scholarship scholarship) {
+}
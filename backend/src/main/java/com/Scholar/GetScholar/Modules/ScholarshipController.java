@@ -1,27 +1,47 @@
 package com.Scholar.GetScholar.Modules;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import com.Scholar.GetScholar.Database.Scholarship;
+import com.Scholar.GetScholar.Database.ScholarshipStats;
 
 import jakarta.validation.Valid;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/scholarships")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {KeysetCursor.NEXT_CURSOR_HEADER, HttpHeaders.ETAG})
 public class ScholarshipController {
 
     @Autowired
     private ScholarshipService scholarshipService;
 
+    @Autowired
+    private ActiveScholarshipCatalog catalog;
+
+    @Autowired
+    private EligibilityMatcher eligibilityMatcher;
+
+    @Autowired
+    private ScholarshipSearch scholarshipSearch;
+
+    @Autowired
+    private ScholarshipFacets scholarshipFacets;
+
+    @Autowired
+    private ApplicationStatsService applicationStatsService;
+
     private Authentication getCurrentAuth() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null || !auth.isAuthenticated() || "anonymousUser".equals(auth.getPrincipal())) {
@@ -51,7 +71,9 @@ public class ScholarshipController {
     }
 
     @GetMapping("/my-scholarships")
-    public ResponseEntity<?> getMyScholarships() {
+    public ResponseEntity<?> getMyScholarships(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
         try {
             Authentication auth = getCurrentAuth();
             if (auth == null) {
@@ -59,14 +81,50 @@ public class ScholarshipController {
                     .body(Map.of("error", "Authentication required"));
             }
 
-            List<Scholarship> scholarships = scholarshipService.getScholarshipsByCreator(auth.getName());
-            return ResponseEntity.ok(scholarships);
+            int pageSize = KeysetCursor.clampLimit(limit);
+            List<Scholarship> scholarships = scholarshipService.getScholarshipsByCreator(
+                auth.getName(), KeysetCursor.decode(cursor), pageSize);
+            Map<Long, ScholarshipStats> stats = applicationStatsService.getStats(
+                scholarships.stream().map(Scholarship::getId).toList());
+            scholarships.forEach(scholarship -> scholarship.setApplicationStats(stats.get(scholarship.getId())));
+            return KeysetCursor.page(scholarships, pageSize,
+                scholarship -> new KeysetCursor(scholarship.getCreatedAt(), scholarship.getId()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Map.of("error", "Failed to fetch scholarships: " + e.getMessage()));
         }
     }
 
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<?> getScholarshipStats(@PathVariable Long id) {
+        try {
+            Authentication auth = getCurrentAuth();
+            if (auth == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "Authentication required"));
+            }
+
+            Optional<Scholarship> existing = scholarshipService.getScholarshipById(id);
+            if (existing.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Scholarship not found"));
+            }
+
+            if (!existing.get().getCreatedBy().equals(auth.getName())) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "You can only view stats for your own scholarships"));
+            }
+
+            return ResponseEntity.ok(applicationStatsService.getStats(id));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "Failed to fetch scholarship stats: " + e.getMessage()));
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<?> updateScholarship(
             @PathVariable Long id, 
@@ -95,6 +153,7 @@ public class ScholarshipController {
             
             scholarship.setCreatedAt(existing.get().getCreatedAt());
             
+            // availableSlots is not taken from the body; see PATCH /{id}/slots
             Scholarship updated = scholarshipService.updateScholarship(scholarship);
             return ResponseEntity.ok(updated);
         } catch (Exception e) {
@@ -147,19 +206,163 @@ public class ScholarshipController {
         }
     }
 
-   
+    // {"change": n} adds (or with n < 0 removes) n open slots relative to the current
+    // count, which reviews keep moving; {"availableSlots": n} sets it outright and
+    // {"availableSlots": null} removes the limit
+    @PatchMapping("/{id}/slots")
+    public ResponseEntity<?> updateScholarshipSlots(
+            @PathVariable Long id,
+            @RequestBody Map<String, Object> slotsUpdate) {
+        try {
+            Authentication auth = getCurrentAuth();
+            if (auth == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "Authentication required"));
+            }
+
+            Object change = slotsUpdate.get("change");
+            Object slots = slotsUpdate.get("availableSlots");
+            if (change != null == slotsUpdate.containsKey("availableSlots")) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "Exactly one of change or availableSlots is required"));
+            }
+            if ((change != null && !(change instanceof Integer))
+                    || (slots != null && (!(slots instanceof Integer count) || count < 0))) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "change must be an integer and availableSlots a non-negative integer or null"));
+            }
+
+            Optional<Scholarship> existing = scholarshipService.getScholarshipById(id);
+            if (existing.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Scholarship not found"));
+            }
+
+            if (!existing.get().getCreatedBy().equals(auth.getName())) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "You can only update your own scholarships"));
+            }
+
+            if (change == null) {
+                return ResponseEntity.ok(scholarshipService.setSlots(id, (Integer) slots));
+            }
+            Optional<Scholarship> updated = scholarshipService.changeSlots(id, (Integer) change);
+            if (updated.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("error", "Scholarship has no slot limit; set availableSlots instead"));
+            }
+            return ResponseEntity.ok(updated.get());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "Failed to update scholarship slots: " + e.getMessage()));
+        }
+    }
 
     @GetMapping
-    public ResponseEntity<?> getAvailableScholarships() {
+    public ResponseEntity<?> getAvailableScholarships(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) List<String> category,
+            @RequestParam(required = false) Double minAmount,
+            @RequestParam(required = false) Double maxAmount,
+            @RequestParam(required = false) List<String> amountBand,
+            @RequestParam(required = false) List<String> deadline,
+            @RequestParam(required = false) List<String> incomeBand,
+            @RequestParam(required = false) List<String> percentageBand,
+            @RequestParam(defaultValue = "false") boolean facets,
+            WebRequest webRequest) {
         try {
-            List<Scholarship> scholarships = scholarshipService.getActiveScholarships();
-            return ResponseEntity.ok(scholarships);
+            Map<FacetIndex.Facet, List<String>> selected = new EnumMap<>(FacetIndex.Facet.class);
+            putIfPresent(selected, FacetIndex.Facet.CATEGORY, category);
+            putIfPresent(selected, FacetIndex.Facet.AMOUNT, amountBand);
+            putIfPresent(selected, FacetIndex.Facet.DEADLINE, deadline);
+            putIfPresent(selected, FacetIndex.Facet.INCOME, incomeBand);
+            putIfPresent(selected, FacetIndex.Facet.PERCENTAGE, percentageBand);
+            if (facets || !selected.isEmpty() || minAmount != null || maxAmount != null) {
+                // Filtered page plus facet counts: {"items":[...],"total":n,"facets":{...}}
+                FacetIndex.Result result = scholarshipFacets.query(
+                    new FacetIndex.Selection(selected, minAmount, maxAmount),
+                    KeysetCursor.decode(cursor), KeysetCursor.clampLimit(limit));
+                ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+                if (result.nextCursor() != null) {
+                    response.header(KeysetCursor.NEXT_CURSOR_HEADER, result.nextCursor().encode());
+                }
+                return response.body(scholarshipFacets.toJson(result));
+            }
+
+            // Served from the in-memory catalog as pre-serialized JSON
+            ActiveScholarshipCatalog.Page page = catalog.page(KeysetCursor.decode(cursor), KeysetCursor.clampLimit(limit));
+            // Handles weak and listed If-None-Match values; on a match the 304 is
+            // already written and the page body is never built
+            if (webRequest.checkNotModified(page.etag())) {
+                return null;
+            }
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(page.etag())
+                .contentType(MediaType.APPLICATION_JSON);
+            if (page.nextCursor() != null) {
+                response.header(KeysetCursor.NEXT_CURSOR_HEADER, page.nextCursor().encode());
+            }
+            return response.body(page.body());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Map.of("error", "Failed to fetch scholarships: " + e.getMessage()));
         }
     }
 
+    private static void putIfPresent(Map<FacetIndex.Facet, List<String>> selected, FacetIndex.Facet facet,
+                                     List<String> values) {
+        if (values != null && !values.isEmpty()) {
+            selected.put(facet, values);
+        }
+    }
+
+    @GetMapping("/eligible")
+    public ResponseEntity<?> getEligibleScholarships(
+            @RequestParam Double familyIncome,
+            @RequestParam Double academicPercentage,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            if (familyIncome < 0 || academicPercentage < 0 || academicPercentage > 100) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "familyIncome must be positive and academicPercentage between 0 and 100"));
+            }
+            // Ranked by amount (highest first), then earliest deadline
+            List<ActiveScholarshipCatalog.Entry> eligible = eligibilityMatcher.findEligible(
+                familyIncome, academicPercentage, category, KeysetCursor.clampLimit(limit));
+            return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ActiveScholarshipCatalog.toJsonArray(eligible));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "Failed to match scholarships: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<?> searchScholarships(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            if (q.isBlank() || q.length() > 200) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "q must be between 1 and 200 characters"));
+            }
+            // Ranked by relevance; the last word matches as a prefix for typeahead
+            List<ActiveScholarshipCatalog.Entry> hits = scholarshipSearch.search(q, KeysetCursor.clampLimit(limit));
+            return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ActiveScholarshipCatalog.toJsonArray(hits));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "Failed to search scholarships: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<?> getScholarshipDetails(@PathVariable Long id) {
         try {
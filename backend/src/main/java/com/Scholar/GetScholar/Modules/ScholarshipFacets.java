@@ -0,0 +1,54 @@
+package com.Scholar.GetScholar.Modules;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Filtered catalog pages with facet counts. The bitsets are rebuilt lazily, in
+// one pass, whenever the catalog publishes a new snapshot.
+@Component
+public class ScholarshipFacets {
+
+    @Autowired
+    private ActiveScholarshipCatalog catalog;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final AtomicReference<FacetIndex> index = new AtomicReference<>();
+
+    public FacetIndex.Result query(FacetIndex.Selection selection, KeysetCursor cursor, int limit) {
+        return currentIndex().query(selection, cursor, limit);
+    }
+
+    // {"items":[...],"total":n,"facets":{...}} with the items copied as pre-serialized JSON
+    public byte[] toJson(FacetIndex.Result result) {
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            body.writeBytes("{\"items\":".getBytes(StandardCharsets.UTF_8));
+            body.writeBytes(ActiveScholarshipCatalog.toJsonArray(result.page()));
+            body.writeBytes((",\"total\":" + result.total() + ",\"facets\":").getBytes(StandardCharsets.UTF_8));
+            body.writeBytes(objectMapper.writeValueAsBytes(result.facets()));
+            body.write('}');
+            return body.toByteArray();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize facet counts", e);
+        }
+    }
+
+    private FacetIndex currentIndex() {
+        ActiveScholarshipCatalog.Snapshot snapshot = catalog.snapshot();
+        FacetIndex existing = index.get();
+        if (existing != null && existing.source() == snapshot) {
+            return existing;
+        }
+        FacetIndex rebuilt = FacetIndex.build(snapshot);
+        index.compareAndSet(existing, rebuilt);
+        return rebuilt;
+    }
+}
@@ -0,0 +1,33 @@
+package com.Scholar.GetScholar.Modules;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Full-text search over the active catalog. Each new catalog snapshot is folded
+// into the index lazily, re-tokenizing only the scholarships that changed.
+@Component
+public class ScholarshipSearch {
+
+    @Autowired
+    private ActiveScholarshipCatalog catalog;
+
+    private final AtomicReference<SearchIndex> index = new AtomicReference<>();
+
+    public List<ActiveScholarshipCatalog.Entry> search(String query, int limit) {
+        return currentIndex().search(query, limit);
+    }
+
+    private SearchIndex currentIndex() {
+        ActiveScholarshipCatalog.Snapshot snapshot = catalog.snapshot();
+        SearchIndex existing = index.get();
+        if (existing != null && existing.source() == snapshot) {
+            return existing;
+        }
+        SearchIndex next = existing == null ? SearchIndex.build(snapshot) : existing.update(snapshot);
+        index.compareAndSet(existing, next);
+        return next;
+    }
+}
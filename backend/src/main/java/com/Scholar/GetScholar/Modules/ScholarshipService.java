@@ -1,6 +1,7 @@
 package com.Scholar.GetScholar.Modules;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,13 +20,22 @@ public class ScholarshipService {
     @Autowired
     private ScholarshipRepository scholarshipRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ApplicationStatsService applicationStatsService;
+
     // Scholarship-related methods only
     public Scholarship createScholarship(Scholarship scholarship) {
         scholarship.setCreatedAt(LocalDateTime.now());
         if (scholarship.getStatus() == null) {
             scholarship.setStatus("ACTIVE");
         }
-        return scholarshipRepository.save(scholarship);
+        Scholarship saved = scholarshipRepository.save(scholarship);
+        applicationStatsService.createFor(saved.getId());
+        eventPublisher.publishEvent(new ScholarshipChangedEvent(saved));
+        return saved;
     }
 
     @Transactional(readOnly = true)
@@ -38,12 +48,63 @@ public class ScholarshipService {
         return scholarshipRepository.findByStatusAndApplicationDeadlineAfterOrderByCreatedAtDesc("ACTIVE", LocalDate.now());
     }
 
+    @Transactional(readOnly = true)
+    public List<Scholarship> getActiveScholarships(KeysetCursor cursor, int limit) {
+        if (cursor == null) {
+            return scholarshipRepository.findByStatusAndApplicationDeadlineAfterOrderByCreatedAtDescIdDesc(
+                "ACTIVE", LocalDate.now(), KeysetCursor.probe(limit));
+        }
+        return scholarshipRepository.findActiveAfter(
+            "ACTIVE", LocalDate.now(), cursor.createdAt(), cursor.id(), KeysetCursor.probe(limit));
+    }
+
     @Transactional(readOnly = true)
     public List<Scholarship> getScholarshipsByCreator(String createdBy) {
         return scholarshipRepository.findByCreatedByOrderByCreatedAtDesc(createdBy);
     }
 
+    @Transactional(readOnly = true)
+    public List<Scholarship> getScholarshipsByCreator(String createdBy, KeysetCursor cursor, int limit) {
+        if (cursor == null) {
+            return scholarshipRepository.findByCreatedByOrderByCreatedAtDescIdDesc(createdBy, KeysetCursor.probe(limit));
+        }
+        return scholarshipRepository.findByCreatedByAfter(
+            createdBy, cursor.createdAt(), cursor.id(), KeysetCursor.probe(limit));
+    }
+
+    // Leaves availableSlots alone: the column is not updatable, so a stale copy
+    // merged here cannot undo reservations made since it was read
     public Scholarship updateScholarship(Scholarship scholarship) {
-        return scholarshipRepository.save(scholarship);
+        Scholarship saved = scholarshipRepository.save(scholarship);
+        saved.setAvailableSlots(remainingSlots(saved.getId()));
+        eventPublisher.publishEvent(new ScholarshipChangedEvent(saved));
+        return saved;
+    }
+
+    // Owner changes to the slot count, applied to the current value so slots
+    // that reviews take in the meantime stay taken. Empty when the scholarship
+    // has no limit to change.
+    public Optional<Scholarship> changeSlots(Long id, int change) {
+        if (scholarshipRepository.adjustSlots(id, change) == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(slotsChanged(id));
+    }
+
+    // Replaces the count outright; null removes the limit
+    public Scholarship setSlots(Long id, Integer slots) {
+        scholarshipRepository.setSlots(id, slots);
+        return slotsChanged(id);
+    }
+
+    private Scholarship slotsChanged(Long id) {
+        Scholarship scholarship = scholarshipRepository.findById(id).orElseThrow();
+        eventPublisher.publishEvent(new ScholarshipChangedEvent(scholarship));
+        return scholarship;
+    }
+
+    private Integer remainingSlots(Long id) {
+        int remaining = scholarshipRepository.findRemainingSlots(id);
+        return remaining < 0 ? null : remaining;
     }
 }
\ No newline at end of file
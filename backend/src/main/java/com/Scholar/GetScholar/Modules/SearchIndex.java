@@ -0,0 +1,399 @@
+package com.Scholar.GetScholar.Modules;
+
+import com.Scholar.GetScholar.Database.Scholarship;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+// Immutable full-text index over one catalog snapshot.
+//
+// Title, category, organization, description and eligibility criteria are
+// tokenized (lower-cased, accents folded, split on anything that is not a letter
+// or digit) into a sorted term dictionary. Each term's postings are a slice of
+// two flat int arrays: ascending document ordinals and field-weighted term
+// frequencies. A query matches documents containing every term, the last one as
+// a prefix unless the query ends in a space, and ranks them by BM25.
+//
+// Incremental updates: every catalog entry carries a checksum of its JSON and
+// id, so update() recognises unchanged scholarships (also across the catalog's
+// periodic full reloads) and only re-tokenizes the ones it has not seen. Those
+// go into a small delta segment, and the base ordinals they replace are masked
+// out. Once the delta outgrows its budget the whole index is rebuilt.
+public final class SearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int CATEGORY_WEIGHT = 2;
+    private static final int ORGANIZATION_WEIGHT = 2;
+    private static final int TEXT_WEIGHT = 1;
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    // Most frequent completions of a typeahead prefix that take part in a query
+    static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int MIN_DELTA_BUDGET = 1024;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+        "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "of", "on", "or",
+        "the", "to", "with");
+
+    private final ActiveScholarshipCatalog.Snapshot source;
+    private final Segment base;
+    private final BitSet deleted;
+    private final Segment delta;
+    private final int liveDocs;
+    private final float averageLength;
+
+    private SearchIndex(ActiveScholarshipCatalog.Snapshot source, Segment base, BitSet deleted, Segment delta) {
+        this.source = source;
+        this.base = base;
+        this.deleted = deleted;
+        this.delta = delta;
+        this.liveDocs = base.docs.length - deleted.cardinality() + delta.docs.length;
+        int indexed = base.docs.length + delta.docs.length;
+        this.averageLength = indexed == 0 ? 1f : (float) (base.totalLength + delta.totalLength) / indexed;
+    }
+
+    public static SearchIndex build(ActiveScholarshipCatalog.Snapshot snapshot) {
+        return new SearchIndex(snapshot, Segment.build(snapshot.entries()), new BitSet(), Segment.EMPTY);
+    }
+
+    // Index for a newer snapshot, reusing the base segment when few entries changed
+    public SearchIndex update(ActiveScholarshipCatalog.Snapshot next) {
+        BitSet live = new BitSet(base.docs.length);
+        List<ActiveScholarshipCatalog.Entry> fresh = new ArrayList<>();
+        for (ActiveScholarshipCatalog.Entry entry : next.entries()) {
+            int ordinal = base.ordinalOf(entry.checksum());
+            if (ordinal < 0) {
+                fresh.add(entry);
+            } else {
+                live.set(ordinal);
+            }
+        }
+        if (fresh.size() > Math.max(MIN_DELTA_BUDGET, next.entries().size() / 32)) {
+            return build(next);
+        }
+        BitSet nextDeleted = new BitSet(base.docs.length);
+        nextDeleted.set(0, base.docs.length);
+        nextDeleted.andNot(live);
+        return new SearchIndex(next, base, nextDeleted, Segment.build(fresh));
+    }
+
+    public ActiveScholarshipCatalog.Snapshot source() {
+        return source;
+    }
+
+    public int size() {
+        return liveDocs;
+    }
+
+    int deltaSize() {
+        return delta.docs.length;
+    }
+
+    // Best matches first, at most limit of them
+    public List<ActiveScholarshipCatalog.Entry> search(String query, int limit) {
+        List<Clause> clauses = parse(query);
+        if (clauses.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, SearchIndex::worseFirst);
+        collect(base, deleted, clauses, limit, top);
+        collect(delta, null, clauses, limit, top);
+
+        ActiveScholarshipCatalog.Entry[] ranked = new ActiveScholarshipCatalog.Entry[top.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = top.poll().entry();
+        }
+        return Arrays.asList(ranked);
+    }
+
+    private void collect(Segment segment, BitSet masked, List<Clause> clauses, int limit, PriorityQueue<Hit> top) {
+        int n = segment.docs.length;
+        if (n == 0) {
+            return;
+        }
+        // matched[doc] counts the clauses a document satisfied so far, in order,
+        // so a document that missed one clause is never touched again
+        float[] scores = new float[n];
+        int[] matched = new int[n];
+        for (int c = 0; c < clauses.size(); c++) {
+            Clause clause = clauses.get(c);
+            int[] terms = clause.prefix() ? segment.expand(clause.text()) : segment.exact(clause.text());
+            boolean progressed = false;
+            for (int term : terms) {
+                float idf = idf(segment.terms[term]);
+                for (int p = segment.termStart[term]; p < segment.termStart[term + 1]; p++) {
+                    int doc = segment.postingDocs[p];
+                    if (matched[doc] < c || (masked != null && masked.get(doc))) {
+                        continue;
+                    }
+                    if (matched[doc] == c) {
+                        matched[doc] = c + 1;
+                        progressed = true;
+                    }
+                    float frequency = segment.postingFreqs[p];
+                    float norm = K1 * (1 - B + B * segment.lengths[doc] / averageLength);
+                    scores[doc] += idf * frequency * (K1 + 1) / (frequency + norm);
+                }
+            }
+            if (!progressed) {
+                return;
+            }
+        }
+
+        int all = clauses.size();
+        for (int doc = 0; doc < n; doc++) {
+            if (matched[doc] != all) {
+                continue;
+            }
+            if (top.size() == limit) {
+                Hit worst = top.peek();
+                if (scores[doc] < worst.score()
+                        || (scores[doc] == worst.score() && worseFirst(new Hit(segment.docs[doc], scores[doc]), worst) <= 0)) {
+                    continue;
+                }
+                top.poll();
+            }
+            top.add(new Hit(segment.docs[doc], scores[doc]));
+        }
+    }
+
+    // Document frequency across both segments; masked base entries still count,
+    // which only nudges idf until the next rebuild
+    private float idf(String term) {
+        int df = base.documentFrequency(term) + delta.documentFrequency(term);
+        return (float) Math.log(1 + (liveDocs - df + 0.5) / (df + 0.5));
+    }
+
+    private record Hit(ActiveScholarshipCatalog.Entry entry, float score) {}
+
+    private record Clause(String text, boolean prefix) {}
+
+    // Lower score first; equal scores fall back to catalog order (newest first)
+    private static int worseFirst(Hit a, Hit b) {
+        int byScore = Float.compare(a.score(), b.score());
+        if (byScore != 0) {
+            return byScore;
+        }
+        return ActiveScholarshipCatalog.CATALOG_ORDER.compare(b.entry().scholarship(), a.entry().scholarship());
+    }
+
+    // Every term must match; the last one is a prefix while the user is still typing
+    private static List<Clause> parse(String query) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        boolean typing = !query.isEmpty() && Character.isLetterOrDigit(query.charAt(query.length() - 1));
+        Set<String> exact = new LinkedHashSet<>();
+        for (int i = 0; i < tokens.size() - 1; i++) {
+            if (!STOP_WORDS.contains(tokens.get(i))) {
+                exact.add(tokens.get(i));
+            }
+        }
+        String last = tokens.get(tokens.size() - 1);
+        List<Clause> clauses = new ArrayList<>();
+        if (typing) {
+            exact.remove(last);
+        } else if (!STOP_WORDS.contains(last)) {
+            exact.add(last);
+        }
+        for (String term : exact) {
+            clauses.add(new Clause(term, false));
+        }
+        if (typing) {
+            clauses.add(new Clause(last, true));
+        }
+        return clauses;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFKD);
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                token.append(Character.toLowerCase(c));
+            } else if (Character.getType(c) != Character.NON_SPACING_MARK && token.length() > 0) {
+                tokens.add(token.toString());
+                token.setLength(0);
+            }
+        }
+        if (token.length() > 0) {
+            tokens.add(token.toString());
+        }
+        return tokens;
+    }
+
+    private static final class Segment {
+
+        static final Segment EMPTY = build(List.of());
+
+        final ActiveScholarshipCatalog.Entry[] docs;
+        final int[] lengths;
+        final long totalLength;
+
+        // Sorted dictionary; postings of terms[t] are [termStart[t], termStart[t + 1])
+        final String[] terms;
+        final int[] termStart;
+        final int[] postingDocs;
+        final int[] postingFreqs;
+
+        // Entry checksums ascending, with the ordinal at each position
+        private final long[] checksums;
+        private final int[] checksumOrdinals;
+
+        private Segment(ActiveScholarshipCatalog.Entry[] docs, int[] lengths, long totalLength, String[] terms,
+                        int[] termStart, int[] postingDocs, int[] postingFreqs) {
+            this.docs = docs;
+            this.lengths = lengths;
+            this.totalLength = totalLength;
+            this.terms = terms;
+            this.termStart = termStart;
+            this.postingDocs = postingDocs;
+            this.postingFreqs = postingFreqs;
+
+            // Build time only; lookups binary-search the primitive arrays
+            Integer[] boxed = new Integer[docs.length];
+            for (int doc = 0; doc < docs.length; doc++) {
+                boxed[doc] = doc;
+            }
+            Arrays.sort(boxed, (a, b) -> Long.compare(docs[a].checksum(), docs[b].checksum()));
+            long[] sorted = new long[docs.length];
+            int[] ordinals = new int[docs.length];
+            for (int i = 0; i < boxed.length; i++) {
+                ordinals[i] = boxed[i];
+                sorted[i] = docs[boxed[i]].checksum();
+            }
+            this.checksums = sorted;
+            this.checksumOrdinals = ordinals;
+        }
+
+        static Segment build(List<ActiveScholarshipCatalog.Entry> entries) {
+            ActiveScholarshipCatalog.Entry[] docs = entries.toArray(new ActiveScholarshipCatalog.Entry[0]);
+            int[] lengths = new int[docs.length];
+            long totalLength = 0;
+            Map<String, PostingsBuilder> postings = new HashMap<>();
+            for (int doc = 0; doc < docs.length; doc++) {
+                Scholarship scholarship = docs[doc].scholarship();
+                lengths[doc] = add(postings, doc, scholarship.getTitle(), TITLE_WEIGHT)
+                    + add(postings, doc, scholarship.getCategory(), CATEGORY_WEIGHT)
+                    + add(postings, doc, scholarship.getOrganizationName(), ORGANIZATION_WEIGHT)
+                    + add(postings, doc, scholarship.getDescription(), TEXT_WEIGHT)
+                    + add(postings, doc, scholarship.getEligibilityCriteria(), TEXT_WEIGHT);
+                totalLength += lengths[doc];
+            }
+
+            String[] terms = postings.keySet().toArray(new String[0]);
+            Arrays.sort(terms);
+            int[] termStart = new int[terms.length + 1];
+            int total = 0;
+            for (int t = 0; t < terms.length; t++) {
+                termStart[t] = total;
+                total += postings.get(terms[t]).size;
+            }
+            termStart[terms.length] = total;
+            int[] postingDocs = new int[total];
+            int[] postingFreqs = new int[total];
+            for (int t = 0; t < terms.length; t++) {
+                PostingsBuilder builder = postings.get(terms[t]);
+                System.arraycopy(builder.docs, 0, postingDocs, termStart[t], builder.size);
+                System.arraycopy(builder.freqs, 0, postingFreqs, termStart[t], builder.size);
+            }
+            return new Segment(docs, lengths, totalLength, terms, termStart, postingDocs, postingFreqs);
+        }
+
+        // Documents are added in ordinal order, so postings come out sorted
+        private static int add(Map<String, PostingsBuilder> postings, int doc, String text, int weight) {
+            int length = 0;
+            for (String token : tokenize(text)) {
+                if (STOP_WORDS.contains(token)) {
+                    continue;
+                }
+                postings.computeIfAbsent(token, key -> new PostingsBuilder()).add(doc, weight);
+                length += weight;
+            }
+            return length;
+        }
+
+        // Ordinal of the entry with this checksum, or -1
+        int ordinalOf(long checksum) {
+            int i = Arrays.binarySearch(checksums, checksum);
+            return i < 0 ? -1 : checksumOrdinals[i];
+        }
+
+        int documentFrequency(String term) {
+            int t = Arrays.binarySearch(terms, term);
+            return t < 0 ? 0 : termStart[t + 1] - termStart[t];
+        }
+
+        int[] exact(String term) {
+            int t = Arrays.binarySearch(terms, term);
+            return t < 0 ? new int[0] : new int[] {t};
+        }
+
+        // Term ids starting with prefix; past the cap, the most frequent ones
+        int[] expand(String prefix) {
+            int from = insertionPoint(prefix);
+            int to = insertionPoint(prefix + Character.MAX_VALUE);
+            int count = to - from;
+            if (count <= MAX_PREFIX_EXPANSIONS) {
+                int[] ids = new int[count];
+                for (int i = 0; i < count; i++) {
+                    ids[i] = from + i;
+                }
+                return ids;
+            }
+            long[] byFrequency = new long[count];
+            for (int t = from; t < to; t++) {
+                byFrequency[t - from] = ((long) (termStart[t + 1] - termStart[t]) << 32) | t;
+            }
+            Arrays.sort(byFrequency);
+            int[] ids = new int[MAX_PREFIX_EXPANSIONS];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = (int) byFrequency[count - 1 - i];
+            }
+            return ids;
+        }
+
+        private int insertionPoint(String key) {
+            int t = Arrays.binarySearch(terms, key);
+            return t < 0 ? -t - 1 : t;
+        }
+    }
+
+    private static final class PostingsBuilder {
+
+        int[] docs = new int[4];
+        int[] freqs = new int[4];
+        int size;
+
+        void add(int doc, int weight) {
+            if (size > 0 && docs[size - 1] == doc) {
+                freqs[size - 1] += weight;
+                return;
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = weight;
+            size++;
+        }
+    }
+}
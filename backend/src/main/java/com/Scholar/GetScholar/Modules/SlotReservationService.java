@@ -0,0 +1,84 @@
+package com.Scholar.GetScholar.Modules;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.Scholar.GetScholar.ScholarshipRepository;
+
+// Enforces Scholarship.availableSlots, which counts the slots still open.
+// Approving an application takes one slot, un-approving it gives the slot
+// back, and a scholarship with no limit (null) never runs out. Both calls join
+// the caller's transaction, so a rolled-back review returns its slot. Every
+// change publishes a ScholarshipChangedEvent, so the catalog's copy of the
+// count is replaced once the review commits.
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class SlotReservationService {
+
+    @Autowired
+    private ScholarshipRepository scholarshipRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    public void reserve(Long scholarshipId) {
+        if (scholarshipRepository.reserveSlots(scholarshipId, 1) == 1) {
+            slotsChanged(scholarshipId);
+            return;
+        }
+        // Nothing decremented: either unlimited or exhausted
+        if (!scholarshipRepository.existsByIdAndAvailableSlotsIsNull(scholarshipId)) {
+            throw new SlotsExhaustedException(scholarshipId);
+        }
+    }
+
+    // Takes up to wanted slots and returns how many were granted
+    public int reserve(Long scholarshipId, int wanted) {
+        if (wanted <= 0) {
+            return 0;
+        }
+        if (scholarshipRepository.reserveSlots(scholarshipId, wanted) == 1) {
+            slotsChanged(scholarshipId);
+            return wanted;
+        }
+        while (true) {
+            int remaining = scholarshipRepository.findRemainingSlots(scholarshipId);
+            if (remaining < 0) {
+                return wanted;
+            }
+            int take = Math.min(remaining, wanted);
+            if (take == 0) {
+                return 0;
+            }
+            if (scholarshipRepository.reserveSlots(scholarshipId, take) == 1) {
+                slotsChanged(scholarshipId);
+                return take;
+            }
+            // Another reviewer took slots in between; re-read and retry
+        }
+    }
+
+    public void release(Long scholarshipId) {
+        release(scholarshipId, 1);
+    }
+
+    public void release(Long scholarshipId, int count) {
+        if (scholarshipRepository.releaseSlots(scholarshipId, count) == 1) {
+            slotsChanged(scholarshipId);
+        }
+    }
+
+    // The UPDATEs bypass the persistence context, so a scholarship loaded earlier
+    // in the transaction still has the old count; the column is not updatable,
+    // so setting it here only changes what the event carries
+    private void slotsChanged(Long scholarshipId) {
+        scholarshipRepository.findById(scholarshipId).ifPresent(scholarship -> {
+            int remaining = scholarshipRepository.findRemainingSlots(scholarshipId);
+            scholarship.setAvailableSlots(remaining < 0 ? null : remaining);
+            eventPublisher.publishEvent(new ScholarshipChangedEvent(scholarship));
+        });
+    }
+}
@@ -0,0 +1,9 @@
+package com.Scholar.GetScholar.Modules;
+
+// Raised when an approval needs a slot and the scholarship has none left
+public class SlotsExhaustedException extends RuntimeException {
+
+    public SlotsExhaustedException(Long scholarshipId) {
+        super("No slots remaining for scholarship " + scholarshipId);
+    }
+}
@@ -0,0 +1,58 @@
+package com.Scholar.GetScholar.Modules;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+// Wraps the DataSource so SqlProfilingFilter sees every statement, whether it
+// comes from Hibernate, a Spring Data repository or JdbcTemplate. The filter is
+// looked up on first use because post-processors are created before other beans.
+@Component
+@ConditionalOnProperty(name = "sql.profiler.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlProfilingDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SqlProfilingFilter> profiler;
+
+    public SqlProfilingDataSourcePostProcessor(ObjectProvider<SqlProfilingFilter> profiler) {
+        this.profiler = profiler;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+        return ProxyDataSourceBuilder.create(dataSource)
+            .name(beanName)
+            .listener(new QueryExecutionListener() {
+
+                private volatile SqlProfilingFilter listener;
+
+                @Override
+                public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                }
+
+                @Override
+                public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                    SqlProfilingFilter target = listener;
+                    if (target == null) {
+                        target = profiler.getIfAvailable();
+                        if (target == null) {
+                            return;
+                        }
+                        listener = target;
+                    }
+                    target.afterQuery(execInfo, queryInfoList);
+                }
+            })
+            .build();
+    }
+}
@@ -0,0 +1,252 @@
+package com.Scholar.GetScholar.Modules;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+// Counts, times and fingerprints every statement a request runs (statements reach
+// afterQuery through the DataSource proxy, see SqlProfilingDataSourcePostProcessor).
+// A fingerprint that repeats n-plus-one-threshold times in one request is logged
+// once per endpoint and counted in sql.n_plus_one; statements slower than
+// slow-query-ms are aggregated by fingerprint and the worst are logged every
+// report-ms. Queries on other threads (async login, export streams, the intake
+// writer) are outside any request profile and only reach the slow-query report.
+@Component
+@ConditionalOnProperty(name = "sql.profiler.enabled", havingValue = "true", matchIfMissing = true)
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class SqlProfilingFilter extends OncePerRequestFilter implements QueryExecutionListener {
+
+    private static final ThreadLocal<Profile> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.$])-?\\d+(?:\\.\\d+)?(?![\\w$])");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final int MAX_TRACKED_FINGERPRINTS = 500;
+    private static final int REPORT_TOP = 10;
+
+    // Statement text -> fingerprint; prepared statements make this a small set
+    private static final Cache<String, String> FINGERPRINTS = Caffeine.newBuilder().maximumSize(2_000).build();
+
+    // One request's statements. Profiles nest (a test's QueryBudget around a
+    // MockMvc call) and a finished profile adds its counts to the enclosing one.
+    public static final class Profile {
+
+        private final Profile parent;
+        private final Map<String, Integer> counts = new HashMap<>();
+        private int queries;
+        private long elapsedMillis;
+
+        private Profile(Profile parent) {
+            this.parent = parent;
+        }
+
+        private void add(String fingerprint, int executions, long millis) {
+            queries += executions;
+            elapsedMillis += millis;
+            counts.merge(fingerprint, executions, Integer::sum);
+        }
+
+        public int queries() {
+            return queries;
+        }
+
+        public long elapsedMillis() {
+            return elapsedMillis;
+        }
+
+        public Map<String, Integer> counts() {
+            return counts;
+        }
+
+        // Fingerprints executed at least threshold times
+        public Map<String, Integer> repeated(int threshold) {
+            Map<String, Integer> repeated = new HashMap<>();
+            counts.forEach((fingerprint, count) -> {
+                if (count >= threshold) {
+                    repeated.put(fingerprint, count);
+                }
+            });
+            return repeated;
+        }
+    }
+
+    private static final class SlowQuery {
+        final LongAdder count = new LongAdder();
+        final LongAdder totalMillis = new LongAdder();
+        final AtomicLong maxMillis = new AtomicLong();
+    }
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${sql.profiler.n-plus-one-threshold:10}")
+    private int nPlusOneThreshold;
+
+    @Value("${sql.profiler.slow-query-ms:200}")
+    private long slowQueryMillis;
+
+    private final Map<String, DistributionSummary> queriesPerRequest = new ConcurrentHashMap<>();
+    private final Map<String, Counter> nPlusOne = new ConcurrentHashMap<>();
+    private final Set<String> reportedNPlusOne = ConcurrentHashMap.newKeySet();
+    private final Map<String, SlowQuery> slowQueries = new ConcurrentHashMap<>();
+
+    public static Profile begin() {
+        Profile profile = new Profile(CURRENT.get());
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    public static void end(Profile profile) {
+        Profile parent = profile.parent;
+        if (parent == null) {
+            CURRENT.remove();
+            return;
+        }
+        CURRENT.set(parent);
+        parent.queries += profile.queries;
+        parent.elapsedMillis += profile.elapsedMillis;
+        profile.counts.forEach((fingerprint, count) -> parent.counts.merge(fingerprint, count, Integer::sum));
+    }
+
+    // Lower-cased statement with literals and IN lists collapsed, so the same
+    // query with different values (or list lengths) shares one fingerprint
+    public static String fingerprint(String sql) {
+        return FINGERPRINTS.get(sql, statement -> {
+            String normalized = STRING_LITERAL.matcher(statement).replaceAll("?");
+            normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+            normalized = IN_LIST.matcher(normalized).replaceAll("(?)");
+            return WHITESPACE.matcher(normalized).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Profile profile = begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            end(profile);
+            record(request, profile);
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (queryInfoList.isEmpty()) {
+            return;
+        }
+        // A JDBC batch is one round trip, whatever its size
+        String fingerprint = fingerprint(queryInfoList.get(0).getQuery());
+        long millis = execInfo.getElapsedTime();
+        Profile profile = CURRENT.get();
+        if (profile != null) {
+            profile.add(fingerprint, 1, millis);
+        }
+        if (millis >= slowQueryMillis) {
+            SlowQuery slow = slowQueries.get(fingerprint);
+            if (slow == null && slowQueries.size() < MAX_TRACKED_FINGERPRINTS) {
+                slow = slowQueries.computeIfAbsent(fingerprint, key -> new SlowQuery());
+            }
+            if (slow != null) {
+                slow.count.increment();
+                slow.totalMillis.add(millis);
+                slow.maxMillis.accumulateAndGet(millis, Math::max);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, Profile profile) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        String endpoint = request.getMethod() + " " + uri;
+
+        if (meterRegistry != null) {
+            queriesPerRequest.computeIfAbsent(endpoint, key -> DistributionSummary.builder("sql.queries.per.request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry))
+                .record(profile.queries());
+        }
+
+        profile.repeated(nPlusOneThreshold).forEach((fingerprint, count) -> {
+            if (meterRegistry != null) {
+                nPlusOne.computeIfAbsent(endpoint, key -> Counter.builder("sql.n_plus_one")
+                        .tag("method", request.getMethod())
+                        .tag("uri", uri)
+                        .register(meterRegistry))
+                    .increment();
+            }
+            if (reportedNPlusOne.size() < MAX_TRACKED_FINGERPRINTS && reportedNPlusOne.add(endpoint + fingerprint)) {
+                logger.warn("Possible N+1 in " + endpoint + ": " + count + " executions of " + fingerprint
+                    + " (" + profile.queries() + " statements in the request)");
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${sql.profiler.report-ms:60000}", initialDelayString = "${sql.profiler.report-ms:60000}")
+    public void reportSlowQueries() {
+        if (slowQueries.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<String, SlowQuery>> worst = new ArrayList<>();
+        for (String fingerprint : new ArrayList<>(slowQueries.keySet())) {
+            SlowQuery slow = slowQueries.remove(fingerprint);
+            if (slow != null) {
+                worst.add(Map.entry(fingerprint, slow));
+            }
+        }
+        worst.sort(Comparator.comparingLong((Map.Entry<String, SlowQuery> entry) -> entry.getValue().totalMillis.sum())
+            .reversed());
+        StringBuilder report = new StringBuilder("Slow SQL over " + slowQueryMillis + " ms since the last report ("
+            + worst.size() + " statements):");
+        for (Map.Entry<String, SlowQuery> entry : worst.subList(0, Math.min(REPORT_TOP, worst.size()))) {
+            SlowQuery slow = entry.getValue();
+            report.append("\n  ").append(slow.count.sum()).append("x, max ").append(slow.maxMillis.get())
+                .append(" ms, total ").append(slow.totalMillis.sum()).append(" ms: ").append(entry.getKey());
+        }
+        logger.warn(report);
+    }
+}
@@ -1,27 +1,89 @@
 package com.Scholar.GetScholar;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import com.Scholar.GetScholar.Database.ApplicationExportRow;
+import com.Scholar.GetScholar.Database.ApplicationWithScholarship;
+import com.Scholar.GetScholar.Database.OrganizationApplicationSummary;
+import com.Scholar.GetScholar.Database.ReviewTarget;
 import com.Scholar.GetScholar.Database.ScholarshipApplication;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
 
 @Repository
 public interface ScholarshipApplicationRepository extends JpaRepository<ScholarshipApplication, Long> {
     
     // Find applications by user (applicant)
     List<ScholarshipApplication> findByApplicantUsernameOrderByCreatedAtDesc(String applicantUsername);
+
+    // Applicant's applications joined with their scholarship in a single query, keyset-paged
+    @Query("SELECT new com.Scholar.GetScholar.Database.ApplicationWithScholarship("
+         + "a.id, a.scholarshipId, a.fullName, a.email, a.status, a.createdAt, a.reviewComments, "
+         + "s.title, s.organizationName, s.amount) "
+         + "FROM ScholarshipApplication a LEFT JOIN Scholarship s ON s.id = a.scholarshipId "
+         + "WHERE a.applicantUsername = ?1 ORDER BY a.createdAt DESC, a.id DESC")
+    List<ApplicationWithScholarship> findWithScholarshipByApplicantUsername(String applicantUsername, Pageable page);
+
+    @Query("SELECT new com.Scholar.GetScholar.Database.ApplicationWithScholarship("
+         + "a.id, a.scholarshipId, a.fullName, a.email, a.status, a.createdAt, a.reviewComments, "
+         + "s.title, s.organizationName, s.amount) "
+         + "FROM ScholarshipApplication a LEFT JOIN Scholarship s ON s.id = a.scholarshipId "
+         + "WHERE a.applicantUsername = ?1 AND (a.createdAt < ?2 OR (a.createdAt = ?2 AND a.id < ?3)) "
+         + "ORDER BY a.createdAt DESC, a.id DESC")
+    List<ApplicationWithScholarship> findWithScholarshipByApplicantUsernameAfter(
+        String applicantUsername, LocalDateTime createdAt, Long id, Pageable page);
     
+    // The application with its documentsSubmitted in one query, for responses that
+    // render the entity after the transaction has closed (open-in-view is off)
+    @EntityGraph(attributePaths = "documentsSubmitted")
+    Optional<ScholarshipApplication> findWithDocumentsById(Long id);
+
     // Find applications for a specific scholarship
     List<ScholarshipApplication> findByScholarshipIdOrderByCreatedAtDesc(Long scholarshipId);
+
+    List<ScholarshipApplication> findByScholarshipIdOrderByCreatedAtDescIdDesc(Long scholarshipId, Pageable page);
+
+    @Query("SELECT a FROM ScholarshipApplication a WHERE a.scholarshipId = ?1 "
+         + "AND (a.createdAt < ?2 OR (a.createdAt = ?2 AND a.id < ?3)) "
+         + "ORDER BY a.createdAt DESC, a.id DESC")
+    List<ScholarshipApplication> findByScholarshipIdAfter(Long scholarshipId, LocalDateTime createdAt, Long id, Pageable page);
     
     // Find applications for multiple scholarships (for organization view)
     List<ScholarshipApplication> findByScholarshipIdInOrderByCreatedAtDesc(List<Long> scholarshipIds);
     
+    // Organization dashboard: one join, keyset-paged on (created_at, id)
+    @Query("SELECT new com.Scholar.GetScholar.Database.OrganizationApplicationSummary("
+         + "a.id, a.scholarshipId, a.fullName, a.email, a.status, a.createdAt, s.title, s.amount) "
+         + "FROM ScholarshipApplication a JOIN Scholarship s ON s.id = a.scholarshipId "
+         + "WHERE s.createdBy = ?1 "
+         + "ORDER BY a.createdAt DESC, a.id DESC")
+    List<OrganizationApplicationSummary> findOrganizationSummaries(String createdBy, Pageable page);
+
+    @Query("SELECT new com.Scholar.GetScholar.Database.OrganizationApplicationSummary("
+         + "a.id, a.scholarshipId, a.fullName, a.email, a.status, a.createdAt, s.title, s.amount) "
+         + "FROM ScholarshipApplication a JOIN Scholarship s ON s.id = a.scholarshipId "
+         + "WHERE s.createdBy = ?1 AND (a.createdAt < ?2 OR (a.createdAt = ?2 AND a.id < ?3)) "
+         + "ORDER BY a.createdAt DESC, a.id DESC")
+    List<OrganizationApplicationSummary> findOrganizationSummariesAfter(String createdBy, LocalDateTime createdAt, Long id, Pageable page);
+    
     // Check if user already applied for a scholarship
     Optional<ScholarshipApplication> findByApplicantUsernameAndScholarshipId(String applicantUsername, Long scholarshipId);
+
+    // Pure existence check; answered from the unique index without loading the entity
+    boolean existsByApplicantUsernameAndScholarshipId(String applicantUsername, Long scholarshipId);
     
     // Find by status
     List<ScholarshipApplication> findByStatusOrderByCreatedAtDesc(String status);
@@ -32,4 +94,42 @@ public interface ScholarshipApplicationRepository extends JpaRepository<Scholars
     // Count by status
     @Query("SELECT COUNT(a) FROM ScholarshipApplication a WHERE a.status = ?1")
     Long countByStatus(String status);
-}
\ No newline at end of file
+
+    // Compare-and-set on status, so two reviewers cannot both move the same application
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ScholarshipApplication a SET a.status = ?2, a.reviewComments = ?3, a.reviewedBy = ?4, "
+         + "a.reviewedAt = ?5, a.updatedAt = ?5 WHERE a.id = ?1 AND a.status = ?6")
+    int transitionStatus(Long id, String status, String comments, String reviewedBy,
+                         LocalDateTime reviewedAt, String expectedStatus);
+
+    // Status and scholarship owner for a whole review batch in one query
+    @Query("SELECT new com.Scholar.GetScholar.Database.ReviewTarget(a.id, a.scholarshipId, a.status, s.createdBy) "
+         + "FROM ScholarshipApplication a LEFT JOIN Scholarship s ON s.id = a.scholarshipId "
+         + "WHERE a.id IN ?1")
+    List<ReviewTarget> findReviewTargets(Collection<Long> ids);
+
+    // Forward-only cursor for the export; rows are DTOs, so nothing accumulates
+    // in the persistence context. Must be consumed inside a transaction.
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.Scholar.GetScholar.Database.ApplicationExportRow("
+         + "a.id, a.fullName, a.email, a.phoneNumber, a.dateOfBirth, a.gender, a.nationality, "
+         + "a.currentInstitution, a.courseName, a.yearOfStudy, a.academicPercentage, a.familyIncome, "
+         + "a.status, a.createdAt, a.reviewedAt) "
+         + "FROM ScholarshipApplication a WHERE a.scholarshipId = ?1 ORDER BY a.createdAt, a.id")
+    Stream<ApplicationExportRow> streamExportRows(Long scholarshipId);
+
+    Optional<ScholarshipApplication> findByIntakeTrackingId(String intakeTrackingId);
+
+    // Which of these intake records already reached the table (log replay after a crash)
+    @Query("SELECT a.id AS id, a.intakeTrackingId AS intakeTrackingId FROM ScholarshipApplication a "
+         + "WHERE a.intakeTrackingId IN ?1")
+    List<IntakeTrackingView> findIntakeTrackingViews(Collection<String> trackingIds);
+
+    interface IntakeTrackingView {
+        Long getId();
+        String getIntakeTrackingId();
+    }
+}
@@ -1,10 +1,14 @@
 package com.Scholar.GetScholar;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import com.Scholar.GetScholar.Database.Scholarship;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -13,4 +17,48 @@ public interface ScholarshipRepository extends JpaRepository<Scholarship, Long>
     List<Scholarship> findByStatusAndApplicationDeadlineAfterOrderByCreatedAtDesc(String status, LocalDate date);
     
     List<Scholarship> findByCreatedByOrderByCreatedAtDesc(String createdBy);
-}
\ No newline at end of file
+
+    // Keyset-paged variants: first page, then everything strictly after (createdAt, id)
+    List<Scholarship> findByStatusAndApplicationDeadlineAfterOrderByCreatedAtDescIdDesc(String status, LocalDate date, Pageable page);
+
+    @Query("SELECT s FROM Scholarship s WHERE s.status = ?1 AND s.applicationDeadline > ?2 "
+         + "AND (s.createdAt < ?3 OR (s.createdAt = ?3 AND s.id < ?4)) "
+         + "ORDER BY s.createdAt DESC, s.id DESC")
+    List<Scholarship> findActiveAfter(String status, LocalDate date, LocalDateTime createdAt, Long id, Pageable page);
+
+    List<Scholarship> findByCreatedByOrderByCreatedAtDescIdDesc(String createdBy, Pageable page);
+
+    @Query("SELECT s FROM Scholarship s WHERE s.createdBy = ?1 "
+         + "AND (s.createdAt < ?2 OR (s.createdAt = ?2 AND s.id < ?3)) "
+         + "ORDER BY s.createdAt DESC, s.id DESC")
+    List<Scholarship> findByCreatedByAfter(String createdBy, LocalDateTime createdAt, Long id, Pageable page);
+
+    // Slot accounting is a single conditional UPDATE; the row lock is held only
+    // until the reviewing transaction commits. NULL available_slots means unlimited.
+    @Modifying
+    @Query("UPDATE Scholarship s SET s.availableSlots = s.availableSlots - ?2 "
+         + "WHERE s.id = ?1 AND s.availableSlots >= ?2")
+    int reserveSlots(Long id, int count);
+
+    @Modifying
+    @Query("UPDATE Scholarship s SET s.availableSlots = s.availableSlots + ?2 "
+         + "WHERE s.id = ?1 AND s.availableSlots IS NOT NULL")
+    int releaseSlots(Long id, int count);
+
+    // Owner edits: shift the remaining slots by the change the owner made, never below zero
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Scholarship s SET s.availableSlots = GREATEST(s.availableSlots + ?2, 0) "
+         + "WHERE s.id = ?1 AND s.availableSlots IS NOT NULL")
+    int adjustSlots(Long id, int delta);
+
+    // Owner edits that switch between limited and unlimited (null)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Scholarship s SET s.availableSlots = ?2 WHERE s.id = ?1")
+    int setSlots(Long id, Integer slots);
+
+    boolean existsByIdAndAvailableSlotsIsNull(Long id);
+
+    // Remaining slots, or -1 when the scholarship has no limit
+    @Query("SELECT COALESCE(s.availableSlots, -1) FROM Scholarship s WHERE s.id = ?1")
+    int findRemainingSlots(Long id);
+}
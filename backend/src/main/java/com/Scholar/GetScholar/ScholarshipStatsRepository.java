@@ -0,0 +1,17 @@
+package com.Scholar.GetScholar;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import com.Scholar.GetScholar.Database.ScholarshipStats;
+
+@Repository
+public interface ScholarshipStatsRepository extends JpaRepository<ScholarshipStats, Long> {
+
+    // Relative update, so concurrent writers never overwrite each other's counts
+    @Modifying
+    @Query("UPDATE ScholarshipStats s SET s.submitted = s.submitted + ?2, s.approved = s.approved + ?3, "
+         + "s.rejected = s.rejected + ?4 WHERE s.scholarshipId = ?1")
+    int adjust(Long scholarshipId, long submitted, long approved, long rejected);
+}
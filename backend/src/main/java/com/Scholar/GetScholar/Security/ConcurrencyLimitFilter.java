@@ -0,0 +1,84 @@
+package com.Scholar.GetScholar.Security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Caps how many requests run the application at once. On platform threads the
+// Tomcat pool does this implicitly; with virtual threads every accepted
+// connection gets a thread, and without a cap thousands of them would queue
+// inside Hikari, each holding request state and timing out there. Waiting here
+// is FIFO and cheap, and a request that cannot get in answers 503 before doing
+// any JWT or database work. 0 disables the limit.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${web.max-concurrent-requests:0}")
+    private int maxConcurrent;
+
+    @Value("${web.admission-timeout-ms:5000}")
+    private long admissionTimeoutMs;
+
+    private Semaphore permits;
+    private Counter rejected;
+
+    @PostConstruct
+    void start() {
+        if (maxConcurrent > 0) {
+            permits = new Semaphore(maxConcurrent, true);
+            meterRegistry.gauge("web.admission.queue.depth", permits, Semaphore::getQueueLength);
+            meterRegistry.gauge("web.admission.active", permits, p -> maxConcurrent - p.availablePermits());
+        }
+        rejected = meterRegistry.counter("web.admission.rejected");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return permits == null || request.getRequestURI().startsWith("/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean admitted;
+        try {
+            admitted = permits.tryAcquire(admissionTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            rejected.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader("Retry-After", "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"error\":\"Server is busy, please retry\"}");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
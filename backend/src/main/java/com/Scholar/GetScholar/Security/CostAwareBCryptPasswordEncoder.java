@@ -0,0 +1,67 @@
+package com.Scholar.GetScholar.Security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+// Flags any stored hash whose cost differs from the configured strength (up or
+// down), so DaoAuthenticationProvider rehashes it on the next successful login.
+public class CostAwareBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private final int strength;
+
+    // auth.bcrypt by operation; the hash alone, without the pool queueing that
+    // auth.hash.latency includes
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public CostAwareBCryptPasswordEncoder(int strength) {
+        this(strength, null);
+    }
+
+    public CostAwareBCryptPasswordEncoder(int strength, MeterRegistry meterRegistry) {
+        super(strength);
+        this.strength = strength;
+        String cost = Integer.toString(strength);
+        this.encodeTimer = meterRegistry == null ? null
+            : meterRegistry.timer("auth.bcrypt", "operation", "encode", "strength", cost);
+        this.matchesTimer = meterRegistry == null ? null
+            : meterRegistry.timer("auth.bcrypt", "operation", "matches", "strength", cost);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        long start = System.nanoTime();
+        String encoded = super.encode(rawPassword);
+        if (encodeTimer != null) {
+            encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return encoded;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long start = System.nanoTime();
+        boolean matches = super.matches(rawPassword, encodedPassword);
+        if (matchesTimer != null) {
+            matchesTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // $2a$10$<53 chars of salt+hash>
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return false;
+        }
+        try {
+            int cost = Integer.parseInt(encodedPassword.substring(4, 6));
+            return cost != strength;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
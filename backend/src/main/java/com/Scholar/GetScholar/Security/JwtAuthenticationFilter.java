@@ -1,10 +1,12 @@
 package com.Scholar.GetScholar.Security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,6 +15,8 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.Scholar.GetScholar.Database.UserDetail;
+
 import java.io.IOException;
 
 @Component
@@ -24,32 +28,39 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Value("${jwt.stateless-principal.enabled:true}")
+    private boolean statelessPrincipal;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
                                     FilterChain filterChain) throws ServletException, IOException {
         
         final String authorizationHeader = request.getHeader("Authorization");
         
-        String email = null;
-        String jwt = null;
-        
+        Claims claims = null;
+
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7); 
+            String jwt = authorizationHeader.substring(7);
             try {
-                email = jwtUtil.extractUsername(jwt);
+                // Signature and expiry are verified here, exactly once
+                claims = jwtUtil.verifyToken(jwt);
             } catch (Exception e) {
                 logger.error("JWT token extraction failed: " + e.getMessage());
             }
         }
-        
 
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-            
-        
-            if (jwtUtil.validateToken(jwt, userDetails.getUsername())) {
-                UsernamePasswordAuthenticationToken authToken = 
+
+        if (claims != null && claims.getSubject() != null
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = resolvePrincipal(claims);
+
+
+            if (userDetails != null) {
+                UsernamePasswordAuthenticationToken authToken =
                     new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
@@ -58,4 +69,35 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         filterChain.doFilter(request, response);
     }
+
+    private UserDetails resolvePrincipal(Claims claims) {
+        String email = claims.getSubject();
+        Integer userId = claims.get(JwtUtil.CLAIM_USER_ID, Integer.class);
+        Integer tokenVersion = claims.get(JwtUtil.CLAIM_TOKEN_VERSION, Integer.class);
+
+        // Stateless path: everything comes from the verified claims, no user lookup.
+        // Until the registry has loaded it cannot tell a revoked token apart.
+        if (statelessPrincipal && userId != null && tokenVersion != null && tokenVersionRegistry.isLoaded()) {
+            if (!tokenVersionRegistry.isCurrent(email, tokenVersion)) {
+                logger.debug("Rejected revoked token for " + email);
+                return null;
+            }
+            UserDetail principal = new UserDetail(claims.get(JwtUtil.CLAIM_NAME, String.class), email, null);
+            principal.setId(userId);
+            principal.setTokenVersion(tokenVersion);
+            return principal;
+        }
+
+        // Tokens issued before the claims existed, stateless mode switched off, or
+        // no token versions loaded yet
+        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        if (!email.equals(userDetails.getUsername())) {
+            return null;
+        }
+        if (tokenVersion != null && userDetails instanceof UserDetail user
+                && tokenVersion < user.getTokenVersion()) {
+            return null;
+        }
+        return userDetails;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,240 @@
+package com.Scholar.GetScholar.Security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPrivateKeySpec;
+import java.security.spec.ECPublicKeySpec;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// JWT signing and verification keys, shared by every instance through a JWK set
+// in jwt.keys.file (re-read when it changes) or jwt.keys.jwks. Every key verifies
+// the tokens whose kid header names it; the newest key holding private material
+// whose "nbf" (epoch seconds, optional) has passed signs. HMAC (HS256/384/512) and
+// EC (ES256/384/512) keys are supported. Without configuration the ring holds one
+// random HS256 key, which only suits a single instance.
+@Component
+public class JwtKeyRing {
+
+    private static final Log logger = LogFactory.getLog(JwtKeyRing.class);
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final Map<String, String> CURVES = Map.of(
+        "P-256", "secp256r1",
+        "P-384", "secp384r1",
+        "P-521", "secp521r1");
+
+    // signingKey is null for verify-only keys; publicJwk is null for secret keys
+    public record RingKey(String kid, SignatureAlgorithm algorithm, Key signingKey, Key verificationKey,
+                          Instant notBefore, ObjectNode publicJwk) {
+    }
+
+    // Immutable; swapped whole so readers never see a half-loaded ring
+    private record Snapshot(Map<String, RingKey> byKid, List<RingKey> signers) {
+    }
+
+    @Value("${jwt.keys.file:}")
+    private String keyFile = "";
+
+    @Value("${jwt.keys.jwks:}")
+    private String inlineJwks = "";
+
+    private volatile Snapshot keys;
+    private volatile long keyFileModified;
+    private final List<Runnable> changeListeners = new CopyOnWriteArrayList<>();
+
+    public JwtKeyRing() {
+        String kid = "local-" + UUID.randomUUID();
+        Key secret = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+        RingKey key = new RingKey(kid, SignatureAlgorithm.HS256, secret, secret, Instant.EPOCH, null);
+        keys = new Snapshot(Map.of(kid, key), List.of(key));
+    }
+
+    public static JwtKeyRing of(String jwks) {
+        JwtKeyRing ring = new JwtKeyRing();
+        ring.keys = parse(jwks);
+        return ring;
+    }
+
+    @PostConstruct
+    void load() throws IOException {
+        if (!keyFile.isBlank()) {
+            Path path = Path.of(keyFile);
+            keyFileModified = Files.getLastModifiedTime(path).toMillis();
+            keys = parse(Files.readString(path));
+            logger.info("Loaded " + keys.byKid().size() + " JWT keys from " + path);
+        } else if (!inlineJwks.isBlank()) {
+            keys = parse(inlineJwks);
+            logger.info("Loaded " + keys.byKid().size() + " JWT keys from jwt.keys.jwks");
+        } else {
+            logger.warn("No jwt.keys.file or jwt.keys.jwks configured; tokens are signed with a per-process "
+                + "key and will not verify on other instances or after a restart");
+        }
+    }
+
+    // Picks up keys added for the next rotation and drops retired ones. A broken
+    // file keeps the current ring, so a bad edit cannot log everyone out.
+    @Scheduled(fixedDelayString = "${jwt.keys.reload-ms:60000}", initialDelayString = "${jwt.keys.reload-ms:60000}")
+    public void reload() {
+        if (keyFile.isBlank()) {
+            return;
+        }
+        try {
+            Path path = Path.of(keyFile);
+            long modified = Files.getLastModifiedTime(path).toMillis();
+            if (modified == keyFileModified) {
+                return;
+            }
+            Snapshot loaded = parse(Files.readString(path));
+            keys = loaded;
+            keyFileModified = modified;
+            logger.info("Reloaded " + loaded.byKid().size() + " JWT keys from " + path);
+            changeListeners.forEach(Runnable::run);
+        } catch (IOException | RuntimeException e) {
+            logger.error("JWT key file reload failed, keeping the current keys: " + e.getMessage());
+        }
+    }
+
+    public void onChange(Runnable listener) {
+        changeListeners.add(listener);
+    }
+
+    public RingKey signingKey() {
+        Instant now = Instant.now();
+        for (RingKey key : keys.signers()) {
+            if (!key.notBefore().isAfter(now)) {
+                return key;
+            }
+        }
+        throw new IllegalStateException("No JWT signing key is active yet");
+    }
+
+    // Null when the kid is unknown or has been retired
+    public RingKey verificationKey(String kid) {
+        return kid == null ? null : keys.byKid().get(kid);
+    }
+
+    // Public halves of the asymmetric keys, for verifiers that must not hold a secret
+    public ObjectNode publicJwks() {
+        ObjectNode jwks = objectMapper.createObjectNode();
+        ArrayNode array = jwks.putArray("keys");
+        keys.byKid().values().stream()
+            .filter(key -> key.publicJwk() != null)
+            .sorted(Comparator.comparing(RingKey::kid))
+            .forEach(key -> array.add(key.publicJwk()));
+        return jwks;
+    }
+
+    static Snapshot parse(String jwks) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(jwks);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("JWT key set is not valid JSON: " + e.getMessage(), e);
+        }
+        Map<String, RingKey> byKid = new HashMap<>();
+        List<RingKey> signers = new ArrayList<>();
+        for (JsonNode jwk : root.path("keys")) {
+            RingKey key = parseKey(jwk);
+            if (byKid.put(key.kid(), key) != null) {
+                throw new IllegalArgumentException("Duplicate JWT kid " + key.kid());
+            }
+            if (key.signingKey() != null) {
+                signers.add(key);
+            }
+        }
+        if (signers.isEmpty()) {
+            throw new IllegalArgumentException("JWT key set has no signing key");
+        }
+        // Newest first; on equal nbf the later entry in the file wins
+        Collections.reverse(signers);
+        signers.sort(Comparator.comparing(RingKey::notBefore).reversed());
+        return new Snapshot(Map.copyOf(byKid), List.copyOf(signers));
+    }
+
+    private static RingKey parseKey(JsonNode jwk) {
+        String kid = jwk.path("kid").asText("");
+        if (kid.isBlank()) {
+            throw new IllegalArgumentException("JWT key without a kid");
+        }
+        Instant notBefore = Instant.ofEpochSecond(jwk.path("nbf").asLong(0));
+        SignatureAlgorithm algorithm;
+        try {
+            algorithm = SignatureAlgorithm.forName(jwk.path("alg").asText());
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("JWT key " + kid + ": unsupported alg " + jwk.path("alg").asText());
+        }
+        String type = jwk.path("kty").asText();
+        try {
+            if ("oct".equals(type) && algorithm.isHmac()) {
+                Key secret = Keys.hmacShaKeyFor(decode(jwk, "k"));
+                algorithm.assertValidSigningKey(secret);
+                return new RingKey(kid, algorithm, secret, secret, notBefore, null);
+            }
+            if ("EC".equals(type) && algorithm.isEllipticCurve()) {
+                String curve = CURVES.get(jwk.path("crv").asText());
+                if (curve == null) {
+                    throw new IllegalArgumentException("unsupported crv " + jwk.path("crv").asText());
+                }
+                AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+                parameters.init(new ECGenParameterSpec(curve));
+                ECParameterSpec spec = parameters.getParameterSpec(ECParameterSpec.class);
+                KeyFactory factory = KeyFactory.getInstance("EC");
+                Key publicKey = factory.generatePublic(new ECPublicKeySpec(
+                    new ECPoint(new BigInteger(1, decode(jwk, "x")), new BigInteger(1, decode(jwk, "y"))), spec));
+                algorithm.assertValidVerificationKey(publicKey);
+                Key privateKey = null;
+                if (jwk.hasNonNull("d")) {
+                    privateKey = factory.generatePrivate(new ECPrivateKeySpec(new BigInteger(1, decode(jwk, "d")), spec));
+                    algorithm.assertValidSigningKey(privateKey);
+                }
+                ObjectNode publicJwk = objectMapper.createObjectNode();
+                publicJwk.put("kty", "EC").put("kid", kid).put("use", "sig").put("alg", algorithm.getValue())
+                    .put("crv", jwk.path("crv").asText()).put("x", jwk.path("x").asText()).put("y", jwk.path("y").asText());
+                return new RingKey(kid, algorithm, privateKey, publicKey, notBefore, publicJwk);
+            }
+        } catch (GeneralSecurityException | RuntimeException e) {
+            throw new IllegalArgumentException("JWT key " + kid + ": " + e.getMessage(), e);
+        }
+        throw new IllegalArgumentException("JWT key " + kid + ": unsupported kty " + type + " for " + algorithm.getValue());
+    }
+
+    private static byte[] decode(JsonNode jwk, String member) {
+        String value = jwk.path(member).asText("");
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException("missing " + member);
+        }
+        return Base64.getUrlDecoder().decode(value);
+    }
+}
@@ -1,22 +1,151 @@
 package com.Scholar.GetScholar.Security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
+import com.Scholar.GetScholar.Database.UserDetail;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
 
-    private final SecretKey SECRET_KEY = Keys.secretKeyFor(SignatureAlgorithm.HS256);
-    private final int JWT_EXPIRATION =  24 * 60 * 60 * 1000; 
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_NAME = "name";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
+    private final int JWT_EXPIRATION =  24 * 60 * 60 * 1000;
+
+    // Never used directly, only cloned
+    private static final MessageDigest SHA256_PROTOTYPE = sha256();
+
+    private final JwtKeyRing keyRing;
+
+    // Parsers are immutable and thread-safe, so build once instead of per call.
+    // The kid header picks the verification key; a retired or unknown kid, or an
+    // alg that is not the key's own, fails like a bad signature.
+    private final JwtParser parser;
+
+    // SHA-256 of the raw token -> claims that already passed signature verification.
+    // Entries never outlive the token's own exp claim.
+    private final Cache<String, Claims> verifiedTokens;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    // jwt.verify by result: cached (digest hit), verified (full HMAC + parse), rejected
+    private Timer cachedTimer;
+    private Timer verifiedTimer;
+    private Timer rejectedTimer;
+
+    // Standalone use (benchmarks): a ring holding one random key
+    public JwtUtil(long verifiedCacheMaxSize) {
+        this(verifiedCacheMaxSize, new JwtKeyRing());
+    }
+
+    @Autowired
+    public JwtUtil(@Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize, JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        JwtKeyRing.RingKey key = keyRing.verificationKey(header.getKeyId());
+                        if (key == null || !key.algorithm().getValue().equals(header.getAlgorithm())) {
+                            throw new SignatureException("Unknown JWT key " + header.getKeyId());
+                        }
+                        return key.verificationKey();
+                    }
+                })
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        // Tokens signed with a key that was just retired must stop verifying now
+        keyRing.onChange(verifiedTokens::invalidateAll);
+    }
+
+    public JwtKeyRing keyRing() {
+        return keyRing;
+    }
+
+    @PostConstruct
+    void registerMeters() {
+        if (meterRegistry != null) {
+            cachedTimer = meterRegistry.timer("jwt.verify", "result", "cached");
+            verifiedTimer = meterRegistry.timer("jwt.verify", "result", "verified");
+            rejectedTimer = meterRegistry.timer("jwt.verify", "result", "rejected");
+        }
+    }
+
+    // Single verification pass: signature + expiry checked once, all claims returned.
+    // Throws JwtException for invalid or expired tokens.
+    public Claims verifyToken(String token) {
+        long start = System.nanoTime();
+        String digest = digest(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            record(cachedTimer, start);
+            return cached;
+        }
+        Claims claims;
+        try {
+            claims = extractAllClaims(token);
+        } catch (RuntimeException e) {
+            record(rejectedTimer, start);
+            throw e;
+        }
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(digest, claims);
+        }
+        record(verifiedTimer, start);
+        return claims;
+    }
+
+    private static void record(Timer timer, long start) {
+        if (timer != null) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
@@ -27,20 +156,18 @@ public class JwtUtil {
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = verifyToken(token);
         return claimsResolver.apply(claims);
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(SECRET_KEY)
-                .build()
+        return parser
                 .parseClaimsJws(token)
                 .getBody();
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private Boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
     public String generateToken(String username) {
@@ -48,18 +175,48 @@ public class JwtUtil {
         return createToken(claims, username);
     }
 
+    // Carries everything the filter needs to rebuild the principal without a user lookup
+    public String generateToken(UserDetail user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_USER_ID, user.getId());
+        claims.put(CLAIM_NAME, user.getName());
+        claims.put(CLAIM_TOKEN_VERSION, user.getTokenVersion());
+        return createToken(claims, user.getEmail());
+    }
+
     private String createToken(Map<String, Object> claims, String subject) {
+        JwtKeyRing.RingKey key = keyRing.signingKey();
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, key.kid())
                 .setClaims(claims)
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + JWT_EXPIRATION))
-                .signWith(SECRET_KEY)
+                .signWith(key.signingKey(), key.algorithm())
                 .compact();
     }
 
     public Boolean validateToken(String token, String username) {
-        final String extractedUsername = extractUsername(token);
-        return (extractedUsername.equals(username) && !isTokenExpired(token));
+        final Claims claims = verifyToken(token);
+        return (claims.getSubject().equals(username) && !isTokenExpired(claims));
+    }
+
+    // Cloning skips the provider lookup of getInstance on every request; a clone
+    // rather than a ThreadLocal because virtual threads would each build their own
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = (MessageDigest) SHA256_PROTOTYPE.clone();
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("SHA-256 digest is not cloneable", e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
-}
\ No newline at end of file
+}
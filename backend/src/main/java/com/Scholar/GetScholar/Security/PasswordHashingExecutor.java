@@ -0,0 +1,65 @@
+package com.Scholar.GetScholar.Security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Dedicated, bounded pool for BCrypt work (login verification and registration
+// hashing) so a login burst cannot occupy every Tomcat worker. When the queue is
+// full, submit() throws RejectedExecutionException and callers answer 429.
+@Component
+public class PasswordHashingExecutor {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${security.bcrypt.threads:0}")
+    private int threads;
+
+    @Value("${security.bcrypt.queue-capacity:64}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+    private Counter rejected;
+
+    @PostConstruct
+    void start() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("bcrypt-"),
+            new ThreadPoolExecutor.AbortPolicy());
+
+        meterRegistry.gauge("auth.hash.queue.depth", executor, e -> e.getQueue().size());
+        meterRegistry.gauge("auth.hash.active", executor, ThreadPoolExecutor::getActiveCount);
+        rejected = meterRegistry.counter("auth.hash.rejected");
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+
+    public <T> CompletableFuture<T> submit(String operation, Supplier<T> task) {
+        Timer timer = meterRegistry.timer("auth.hash.latency", "operation", operation);
+        try {
+            return CompletableFuture.supplyAsync(() -> timer.record(task), executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.Scholar.GetScholar.Security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -9,11 +12,14 @@ import org.springframework.security.config.annotation.authentication.builders.Au
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+
+import java.util.List;
 
 @Configuration
 @EnableWebSecurity
@@ -22,23 +28,50 @@ public class Security {
     @Autowired
     private UserDetailsService userDetailsService;
     
+    @Autowired
+    private UserDetailsPasswordService userDetailsPasswordService;
+    
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${security.bcrypt.strength:10}")
+    private int bcryptStrength;
+
+    // Comma-separated addresses or CIDR ranges. Matched against the connection's
+    // remote address, never X-Forwarded-For, so list the scraper as the app sees it
+    @Value("${actuator.allowed-addresses:127.0.0.1/32,::1/128}")
+    private List<String> actuatorAllowedAddresses;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new CostAwareBCryptPasswordEncoder(bcryptStrength, meterRegistry);
     }
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        List<IpAddressMatcher> actuatorClients = actuatorAllowedAddresses.stream()
+            .filter(address -> !address.isBlank())
+            .map(address -> new IpAddressMatcher(address.trim()))
+            .toList();
         http
             .csrf(csrf -> csrf.disable())  
             .sessionManagement(session -> 
                 session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))  
             .authorizeHttpRequests(auth -> auth
+                // The async dispatch that writes a streamed export was authorized as the
+                // original request; the JWT filter does not run on it again
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/auth/login", "/auth/register").permitAll()
                 .requestMatchers("/auth/**").permitAll()  
+                // Probes carry no JWT. Neither does the Prometheus scraper, so the
+                // other actuator endpoints answer only actuator.allowed-addresses
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers(request -> request.getRequestURI().startsWith("/actuator/")
+                    && actuatorClients.stream().anyMatch(client -> client.matches(request))).permitAll()
+                .requestMatchers("/actuator/**").denyAll()
                 .requestMatchers("/api/**").authenticated() 
                 .anyRequest().authenticated()
             )
@@ -55,7 +88,8 @@ public class Security {
             http.getSharedObject(AuthenticationManagerBuilder.class);
         authenticationManagerBuilder
             .userDetailsService(userDetailsService)
-            .passwordEncoder(passwordEncoder());
+            .passwordEncoder(passwordEncoder())
+            .userDetailsPasswordManager(userDetailsPasswordService);
         return authenticationManagerBuilder.build();
     }
 
@@ -64,6 +98,7 @@ public class Security {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setPasswordEncoder(passwordEncoder());
         provider.setUserDetailsService(userDetailsService);
+        provider.setUserDetailsPasswordService(userDetailsPasswordService);
         return provider;
     }
 }
\ No newline at end of file
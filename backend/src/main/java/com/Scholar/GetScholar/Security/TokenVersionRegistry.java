@@ -0,0 +1,74 @@
+package com.Scholar.GetScholar.Security;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.Scholar.GetScholar.UserRepo;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+// In-memory view of per-user token versions so the JWT filter can reject
+// revoked tokens without a database round-trip. Only users with a version
+// above 0 are held; the background refresh merges into the map and never lowers
+// a version, so a revocation recorded while a refresh is loading survives it.
+@Component
+public class TokenVersionRegistry {
+
+    private static final Log logger = LogFactory.getLog(TokenVersionRegistry.class);
+
+    @Autowired
+    private UserRepo userRepo;
+
+    private final AtomicReference<Map<String, Integer>> versions = new AtomicReference<>(Map.of());
+    private volatile boolean loaded;
+
+    // False until a refresh has succeeded; an empty map then says nothing about revocations
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int currentVersion(String email) {
+        return versions.get().getOrDefault(email, 0);
+    }
+
+    public boolean isCurrent(String email, int tokenVersion) {
+        return tokenVersion >= currentVersion(email);
+    }
+
+    // Local fast path after a revocation on this node; other nodes pick it up on refresh
+    public void recordVersion(String email, int version) {
+        versions.updateAndGet(current -> {
+            Map<String, Integer> updated = new HashMap<>(current);
+            updated.merge(email, version, Math::max);
+            return Map.copyOf(updated);
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${jwt.token-version.refresh-ms:30000}",
+               initialDelayString = "${jwt.token-version.refresh-ms:30000}")
+    public void refresh() {
+        try {
+            Map<String, Integer> fresh = new HashMap<>();
+            for (UserRepo.TokenVersionView view : userRepo.findRevokedTokenVersions()) {
+                fresh.put(view.getEmail(), view.getTokenVersion());
+            }
+            versions.updateAndGet(current -> {
+                Map<String, Integer> merged = new HashMap<>(current);
+                fresh.forEach((email, version) -> merged.merge(email, version, Math::max));
+                return Map.copyOf(merged);
+            });
+            loaded = true;
+        } catch (Exception e) {
+            // Keep serving the last snapshot; the next refresh will retry
+            logger.warn("Token version refresh failed: " + e.getMessage());
+        }
+    }
+}
@@ -1,11 +1,27 @@
 package com.Scholar.GetScholar;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import com.Scholar.GetScholar.Database.UserDetail;
+import java.util.List;
 import java.util.Optional;
 
 
 public interface UserRepo extends JpaRepository<UserDetail, Integer>{
     Optional<UserDetail> findByEmail(String email);
+
+    // Only users that ever revoked their tokens; everyone else is implicitly version 0
+    @Query("SELECT u.email AS email, u.tokenVersion AS tokenVersion FROM UserDetail u WHERE u.tokenVersion > 0")
+    List<TokenVersionView> findRevokedTokenVersions();
+
+    @Modifying
+    @Query("UPDATE UserDetail u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.email = ?1")
+    int incrementTokenVersion(String email);
+
+    interface TokenVersionView {
+        String getEmail();
+        int getTokenVersion();
+    }
 }
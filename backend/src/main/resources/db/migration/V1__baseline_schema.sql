@@ -0,0 +1,67 @@
+-- Schema as previously generated by spring.jpa.hibernate.ddl-auto=update.
+-- Databases created that way are baselined at this version (see
+-- spring.flyway.baseline-on-migrate) and skip straight to V2.
+
+CREATE SEQUENCE IF NOT EXISTS user_detail_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS user_detail (
+    id              integer      NOT NULL PRIMARY KEY,
+    name            varchar(255),
+    email           varchar(255) UNIQUE,
+    password        varchar(255)
+);
+
+CREATE TABLE IF NOT EXISTS scholarships (
+    id                    bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title                 varchar(255)  NOT NULL,
+    description           varchar(2000),
+    organization_name     varchar(255)  NOT NULL,
+    amount                float(53)     NOT NULL,
+    eligibility_criteria  varchar(1000),
+    application_deadline  date          NOT NULL,
+    start_date            date          NOT NULL,
+    end_date              date,
+    max_family_income     float(53),
+    min_percentage        float(53),
+    available_slots       integer,
+    category              varchar(255),
+    status                varchar(255),
+    created_by            varchar(255)  NOT NULL,
+    created_at            timestamp(6)  NOT NULL,
+    updated_at            timestamp(6)
+);
+
+CREATE TABLE IF NOT EXISTS scholarship_applications (
+    id                   bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    scholarship_id       bigint        NOT NULL,
+    full_name            varchar(255)  NOT NULL,
+    date_of_birth        date          NOT NULL,
+    gender               varchar(255)  NOT NULL,
+    email                varchar(255)  NOT NULL,
+    phone_number         varchar(255)  NOT NULL,
+    address              varchar(500)  NOT NULL,
+    nationality          varchar(255)  NOT NULL,
+    current_institution  varchar(255)  NOT NULL,
+    course_name          varchar(255)  NOT NULL,
+    year_of_study        varchar(255)  NOT NULL,
+    academic_percentage  float(53)     NOT NULL,
+    achievements         varchar(1000),
+    family_income        float(53)     NOT NULL,
+    guardian_name        varchar(255),
+    guardian_occupation  varchar(255),
+    guardian_contact     varchar(255),
+    reason_for_applying  varchar(1000) NOT NULL,
+    status               varchar(255)  NOT NULL,
+    review_comments      varchar(500),
+    reviewed_by          varchar(255),
+    reviewed_at          timestamp(6),
+    applicant_username   varchar(255)  NOT NULL,
+    created_at           timestamp(6)  NOT NULL,
+    updated_at           timestamp(6),
+    created_by           varchar(255)
+);
+
+CREATE TABLE IF NOT EXISTS application_documents (
+    application_id  bigint NOT NULL REFERENCES scholarship_applications (id),
+    document_path   varchar(255)
+);
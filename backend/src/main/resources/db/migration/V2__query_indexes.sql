@@ -0,0 +1,40 @@
+-- One index per repository access path. Keyset-paged lists order by
+-- (created_at DESC, id DESC), so those indexes carry both columns in that order
+-- and Postgres can stop after limit+1 rows without sorting.
+
+-- ScholarshipRepository.findByStatusAndApplicationDeadlineAfter... (catalog reload)
+CREATE INDEX IF NOT EXISTS idx_scholarships_status_deadline
+    ON scholarships (status, application_deadline);
+
+-- ScholarshipRepository.findByStatusAndApplicationDeadlineAfterOrderByCreatedAtDescIdDesc / findActiveAfter
+CREATE INDEX IF NOT EXISTS idx_scholarships_status_created
+    ON scholarships (status, created_at DESC, id DESC)
+    INCLUDE (application_deadline);
+
+-- ScholarshipRepository.findByCreatedBy... and the organization dashboard join
+CREATE INDEX IF NOT EXISTS idx_scholarships_created_by_created
+    ON scholarships (created_by, created_at DESC, id DESC);
+
+-- ScholarshipApplicationRepository.findByApplicantUsername... / findWithScholarshipByApplicantUsername...
+CREATE INDEX IF NOT EXISTS idx_applications_applicant_created
+    ON scholarship_applications (applicant_username, created_at DESC, id DESC);
+
+-- ScholarshipApplicationRepository.findByScholarshipId... / findByScholarshipIdIn... / organization summaries
+CREATE INDEX IF NOT EXISTS idx_applications_scholarship_created
+    ON scholarship_applications (scholarship_id, created_at DESC, id DESC);
+
+-- ScholarshipApplicationRepository.findByApplicantUsernameAndScholarshipId
+CREATE INDEX IF NOT EXISTS idx_applications_applicant_scholarship
+    ON scholarship_applications (applicant_username, scholarship_id);
+
+-- ScholarshipApplicationRepository.findByStatusOrderByCreatedAtDesc / countByStatus
+CREATE INDEX IF NOT EXISTS idx_applications_status_created
+    ON scholarship_applications (status, created_at DESC);
+
+-- ScholarshipApplicationRepository.findByEmail
+CREATE INDEX IF NOT EXISTS idx_applications_email
+    ON scholarship_applications (email);
+
+-- @ElementCollection load of documentsSubmitted
+CREATE INDEX IF NOT EXISTS idx_application_documents_application
+    ON application_documents (application_id);
@@ -0,0 +1,8 @@
+-- One application per applicant per scholarship, enforced by the database so
+-- concurrent submits cannot both succeed. The unique index also serves the
+-- existence check, replacing the plain index from V2. Fails if duplicates
+-- already exist; resolve them before migrating.
+DROP INDEX IF EXISTS idx_applications_applicant_scholarship;
+
+ALTER TABLE scholarship_applications
+    ADD CONSTRAINT uq_applications_applicant_scholarship UNIQUE (applicant_username, scholarship_id);
@@ -0,0 +1,6 @@
+-- Tracking id for applications accepted through the asynchronous intake queue.
+-- Unique so that replaying the intake log after a crash cannot insert twice.
+ALTER TABLE scholarship_applications ADD COLUMN IF NOT EXISTS intake_tracking_id varchar(36);
+
+ALTER TABLE scholarship_applications
+    ADD CONSTRAINT uq_applications_intake_tracking UNIQUE (intake_tracking_id);
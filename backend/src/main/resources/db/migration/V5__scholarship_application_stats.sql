@@ -0,0 +1,19 @@
+-- Application counts per scholarship, maintained by the transactions that
+-- insert and review applications (see ApplicationStatsService), so the stats
+-- endpoint never has to count scholarship_applications.
+CREATE TABLE IF NOT EXISTS scholarship_application_stats (
+    scholarship_id  bigint NOT NULL PRIMARY KEY,
+    submitted       bigint NOT NULL DEFAULT 0,
+    approved        bigint NOT NULL DEFAULT 0,
+    rejected        bigint NOT NULL DEFAULT 0
+);
+
+INSERT INTO scholarship_application_stats (scholarship_id, submitted, approved, rejected)
+SELECT s.id,
+       count(a.id) FILTER (WHERE a.status = 'SUBMITTED'),
+       count(a.id) FILTER (WHERE a.status = 'APPROVED'),
+       count(a.id) FILTER (WHERE a.status = 'REJECTED')
+FROM scholarships s
+LEFT JOIN scholarship_applications a ON a.scholarship_id = s.id
+GROUP BY s.id
+ON CONFLICT (scholarship_id) DO NOTHING;
@@ -0,0 +1,13 @@
+-- Uploaded documents, one row per distinct content. The file lives in the
+-- document store under its SHA-256 (see DocumentStore); applications reference
+-- it from application_documents.document_path as 'sha256:<hex>'.
+CREATE TABLE IF NOT EXISTS stored_documents (
+    sha256        char(64)      NOT NULL PRIMARY KEY,
+    size_bytes    bigint        NOT NULL,
+    content_type  varchar(255)  NOT NULL,
+    created_at    timestamp(6)  NOT NULL
+);
+
+-- Download check: does this application reference this document
+CREATE INDEX IF NOT EXISTS idx_application_documents_path
+    ON application_documents (application_id, document_path);
@@ -0,0 +1,3 @@
+-- Per-user token version behind /auth/logout-all (TokenVersionRegistry). Kept out
+-- of the V1 baseline, which databases that predate Flyway never execute.
+ALTER TABLE user_detail ADD COLUMN IF NOT EXISTS token_version integer NOT NULL DEFAULT 0;
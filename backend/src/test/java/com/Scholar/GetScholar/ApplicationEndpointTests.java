@@ -0,0 +1,179 @@
+package com.Scholar.GetScholar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import com.Scholar.GetScholar.Database.Scholarship;
+import com.Scholar.GetScholar.Database.ScholarshipApplication;
+import com.Scholar.GetScholar.Database.UserDetail;
+import com.Scholar.GetScholar.Modules.ApplicationService;
+import com.Scholar.GetScholar.Modules.ScholarshipService;
+import com.Scholar.GetScholar.Security.JwtUtil;
+
+// Application endpoints end to end through MockMvc on a real Postgres, including
+// response rendering, which runs after the service transaction has closed
+@SpringBootTest
+@AutoConfigureMockMvc
+class ApplicationEndpointTests extends SharedPostgres {
+
+	private static final String OWNER = "endpoints-org@example.com";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private ScholarshipService scholarshipService;
+
+	@Autowired
+	private ApplicationService applicationService;
+
+	private Long scholarshipId;
+
+	@BeforeEach
+	void seed() {
+		Scholarship scholarship = new Scholarship();
+		scholarship.setTitle("Endpoint Award");
+		scholarship.setOrganizationName("Endpoint Foundation");
+		scholarship.setAmount(500.0);
+		scholarship.setApplicationDeadline(LocalDate.now().plusDays(30));
+		scholarship.setStartDate(LocalDate.now().plusDays(60));
+		scholarship.setCreatedBy(OWNER);
+		scholarshipId = scholarshipService.createScholarship(scholarship).getId();
+		submit("first-student@example.com");
+		submit("second-student@example.com");
+	}
+
+	@Test
+	void detailsAndReviewRenderTheDocumentList() throws Exception {
+		Long applicationId = submit("documents-listed@example.com").getId();
+
+		mockMvc.perform(get("/api/applications/" + applicationId).header("Authorization", token(OWNER)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.documentsSubmitted[0]").value("transcript.pdf"));
+
+		mockMvc.perform(patch("/api/applications/" + applicationId + "/review")
+				.header("Authorization", token(OWNER))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"status\": \"APPROVED\", \"comments\": \"Strong record\"}"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.status").value("APPROVED"))
+			.andExpect(jsonPath("$.documentsSubmitted[0]").value("transcript.pdf"));
+	}
+
+	@Test
+	void exportStreamsThroughTheAsyncDispatch() throws Exception {
+		MvcResult started = mockMvc.perform(get("/api/applications/scholarship/" + scholarshipId + "/export")
+				.header("Authorization", token(OWNER)))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		String csv = mockMvc.perform(asyncDispatch(started))
+			.andExpect(status().isOk())
+			.andExpect(content().contentTypeCompatibleWith("text/csv"))
+			.andReturn().getResponse().getContentAsString();
+
+		List<String> lines = csv.lines().toList();
+		assertEquals(3, lines.size());
+		assertTrue(lines.get(0).startsWith("id,fullName,email,"), lines.get(0));
+	}
+
+	@Test
+	void exportErrorsAreJson() throws Exception {
+		String path = "/api/applications/scholarship/" + scholarshipId + "/export";
+		mockMvc.perform(get(path).header("Authorization", token("stranger@example.com")))
+			.andExpect(status().isForbidden())
+			.andExpect(jsonPath("$.error").value("You can only export applications for your own scholarships"));
+		mockMvc.perform(get(path).param("format", "xml").header("Authorization", token(OWNER)))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.error").value("Format must be csv or ndjson"));
+		mockMvc.perform(get("/api/applications/scholarship/0/export").header("Authorization", token(OWNER)))
+			.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void unchangedCatalogPageAnswersNotModified() throws Exception {
+		String etag = mockMvc.perform(get("/api/scholarships").header("Authorization", token(OWNER)))
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getHeader("ETag");
+
+		for (String ifNoneMatch : List.of(etag, "W/" + etag, "\"stale\", " + etag)) {
+			mockMvc.perform(get("/api/scholarships").header("Authorization", token(OWNER))
+					.header("If-None-Match", ifNoneMatch))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string("ETag", etag))
+				.andExpect(content().string(""));
+		}
+		mockMvc.perform(get("/api/scholarships").header("Authorization", token(OWNER))
+				.header("If-None-Match", "\"stale\""))
+			.andExpect(status().isOk());
+	}
+
+	@Test
+	void actuatorAnswersOnlyAllowedAddresses() throws Exception {
+		mockMvc.perform(get("/actuator/metrics"))
+			.andExpect(status().isOk());
+		mockMvc.perform(get("/actuator/metrics").with(remoteAddr("203.0.113.9")))
+			.andExpect(status().isForbidden());
+		mockMvc.perform(get("/actuator/health").with(remoteAddr("203.0.113.9")))
+			.andExpect(status().isOk());
+	}
+
+	private static RequestPostProcessor remoteAddr(String address) {
+		return request -> {
+			request.setRemoteAddr(address);
+			return request;
+		};
+	}
+
+	private ScholarshipApplication submit(String applicant) {
+		ScholarshipApplication application = new ScholarshipApplication();
+		application.setScholarshipId(scholarshipId);
+		application.setFullName("Endpoint Student");
+		application.setDateOfBirth(LocalDate.of(2003, 3, 3));
+		application.setGender("F");
+		application.setEmail(applicant);
+		application.setPhoneNumber("5550102");
+		application.setAddress("3 Campus Road");
+		application.setNationality("IN");
+		application.setCurrentInstitution("State University");
+		application.setCourseName("Biology");
+		application.setYearOfStudy("1");
+		application.setAcademicPercentage(84.0);
+		application.setFamilyIncome(150000.0);
+		application.setReasonForApplying("Books");
+		application.setApplicantUsername(applicant);
+		application.setDocumentsSubmitted(new ArrayList<>(List.of("transcript.pdf")));
+		return applicationService.submitApplication(application);
+	}
+
+	private String token(String email) {
+		UserDetail user = new UserDetail("Endpoints", email, null);
+		user.setId(Math.abs(email.hashCode()));
+		return "Bearer " + jwtUtil.generateToken(user);
+	}
+}
@@ -0,0 +1,108 @@
+package com.Scholar.GetScholar;
+
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.Scholar.GetScholar.Database.UserDetail;
+import com.Scholar.GetScholar.Security.PasswordHashingExecutor;
+
+// /auth/login and /auth/register through MockMvc, with a one-thread, one-slot
+// bcrypt pool so a test can fill it
+@SpringBootTest(properties = {
+	"security.bcrypt.strength=10",
+	"security.bcrypt.threads=1",
+	"security.bcrypt.queue-capacity=1"
+})
+@AutoConfigureMockMvc
+class AuthEndpointTests extends SharedPostgres {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private PasswordHashingExecutor passwordHashingExecutor;
+
+	@Autowired
+	private UserRepo userRepo;
+
+	@Test
+	void fullHashingPoolAnswersTooManyRequestsWithoutWaiting() throws Exception {
+		CountDownLatch running = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		try {
+			// One task on the only thread, one in the only queue slot
+			passwordHashingExecutor.submit("test", () -> {
+				running.countDown();
+				return await(release);
+			});
+			running.await();
+			passwordHashingExecutor.submit("test", () -> await(release));
+
+			assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+				assertTooManyRequests(auth("/auth/login",
+					"{\"email\": \"busy@example.com\", \"password\": \"secret\"}"));
+				assertTooManyRequests(auth("/auth/register",
+					"{\"name\": \"Busy\", \"email\": \"busy@example.com\", \"password\": \"secret\"}"));
+			});
+		} finally {
+			release.countDown();
+		}
+	}
+
+	@Test
+	void loginRehashesAPasswordStoredAtAnotherCost() throws Exception {
+		String email = "rehash@example.com";
+		userRepo.save(new UserDetail("Rehash", email, new BCryptPasswordEncoder(8).encode("secret")));
+
+		auth("/auth/login", "{\"email\": \"" + email + "\", \"password\": \"secret\"}")
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.token").exists());
+
+		String stored = userRepo.findByEmail(email).orElseThrow().getPassword();
+		assertTrue(stored.startsWith("$2a$10$"), stored);
+		assertTrue(new BCryptPasswordEncoder(10).matches("secret", stored));
+	}
+
+	// Both endpoints return a CompletableFuture, so the response comes from the async dispatch
+	private ResultActions auth(String path, String body) throws Exception {
+		MvcResult started = mockMvc.perform(post(path).contentType(MediaType.APPLICATION_JSON).content(body))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+		return mockMvc.perform(asyncDispatch(started));
+	}
+
+	private static void assertTooManyRequests(ResultActions response) throws Exception {
+		response.andExpect(status().isTooManyRequests())
+			.andExpect(header().string("Retry-After", "1"))
+			.andExpect(jsonPath("$.error").exists());
+	}
+
+	private static boolean await(CountDownLatch latch) {
+		try {
+			latch.await();
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package com.Scholar.GetScholar.Benchmarks;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Runs the JMH benchmarks and compares the scores against benchmarks/baseline.json.
+// Only enabled by the "benchmarks" Maven profile:
+//
+//   mvn -P benchmarks test                                   run and compare
+//   mvn -P benchmarks test -Dbenchmarks.include=Jwt          run a subset
+//   mvn -P benchmarks test -Dbenchmarks.update-baseline=true accept the new scores
+//
+// A benchmark regresses when its score is worse than the baseline by more than
+// both the tolerance and the two runs' combined error. Benchmarks missing from
+// the baseline are reported but never fail. The baseline keeps only benchmark,
+// params, mode, score, scoreError and unit per run; the full JMH output stays in
+// target/jmh-result.json. Scores are only comparable on the same hardware, so the
+// baseline must come from the machine that runs the comparison (benchmarks/README.md).
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class BenchmarkRegressionTests {
+
+	// One benchmark run as kept in the baseline
+	record Score(String benchmark, Map<String, String> params, String mode, double score, double scoreError,
+				 String unit) {
+
+		// Benchmark name plus its @Param values, e.g. "...BCryptBenchmark.encode strength=10"
+		String key() {
+			StringBuilder key = new StringBuilder(benchmark);
+			params.forEach((param, value) -> key.append(' ').append(param).append('=').append(value));
+			return key.toString();
+		}
+	}
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void benchmarksDoNotRegressAgainstBaseline() throws Exception {
+		String include = System.getProperty("benchmarks.include", "com.Scholar.GetScholar.Benchmarks.");
+		Path result = Path.of(System.getProperty("benchmarks.result", "target/jmh-result.json"));
+		Path baseline = Path.of(System.getProperty("benchmarks.baseline", "benchmarks/baseline.json"));
+		double tolerance = Double.parseDouble(System.getProperty("benchmarks.tolerance", "0.15"));
+		Files.createDirectories(result.toAbsolutePath().getParent());
+
+		new Runner(new OptionsBuilder()
+			.include(include)
+			.resultFormat(ResultFormatType.JSON)
+			.result(result.toString())
+			.build()).run();
+
+		Map<String, Score> current = scores(result);
+		if (Boolean.getBoolean("benchmarks.update-baseline") || !Files.exists(baseline)) {
+			Files.createDirectories(baseline.toAbsolutePath().getParent());
+			writeBaseline(baseline, current);
+			System.out.println("Benchmark baseline written to " + baseline.toAbsolutePath());
+			return;
+		}
+
+		List<String> regressions = compare(scores(baseline), current, tolerance);
+		assertTrue(regressions.isEmpty(), "Benchmarks regressed against " + baseline + ":\n"
+			+ String.join("\n", regressions));
+	}
+
+	private static List<String> compare(Map<String, Score> baseline, Map<String, Score> current, double tolerance) {
+		List<String> regressions = new ArrayList<>();
+		current.forEach((name, now) -> {
+			Score was = baseline.get(name);
+			if (was == null) {
+				System.out.println("No baseline for " + name);
+				return;
+			}
+			// Throughput is better when higher; every other mode reports time per op
+			boolean higherIsBetter = "thrpt".equals(now.mode());
+			double worseBy = higherIsBetter ? was.score() - now.score() : now.score() - was.score();
+			double noise = was.scoreError() + now.scoreError();
+			if (worseBy > was.score() * tolerance && worseBy > noise) {
+				regressions.add(String.format("  %s: %.3f -> %.3f %s (%+.1f%%)", name, was.score(), now.score(),
+					now.unit(), (now.score() - was.score()) / was.score() * 100));
+			}
+		});
+		return regressions;
+	}
+
+	// Reads either raw JMH JSON (primaryMetric per run) or a baseline written by writeBaseline
+	private Map<String, Score> scores(Path file) throws IOException {
+		Map<String, Score> scores = new TreeMap<>();
+		for (JsonNode run : objectMapper.readTree(file.toFile())) {
+			JsonNode metric = run.has("primaryMetric") ? run.get("primaryMetric") : run;
+			Map<String, String> params = new TreeMap<>();
+			for (Iterator<String> it = run.path("params").fieldNames(); it.hasNext(); ) {
+				String param = it.next();
+				params.put(param, run.get("params").get(param).asText());
+			}
+			double error = metric.path("scoreError").asDouble(0);
+			Score score = new Score(run.get("benchmark").asText(), params, run.get("mode").asText(),
+				metric.get("score").asDouble(), Double.isNaN(error) ? 0 : error,
+				metric.has("scoreUnit") ? metric.get("scoreUnit").asText() : metric.get("unit").asText());
+			scores.put(score.key(), score);
+		}
+		return scores;
+	}
+
+	// One run per line, in key order, so a baseline refresh diffs line by line
+	private void writeBaseline(Path baseline, Map<String, Score> scores) throws IOException {
+		List<String> lines = new ArrayList<>();
+		for (Score score : scores.values()) {
+			lines.add("  " + objectMapper.writeValueAsString(score));
+		}
+		Files.writeString(baseline, "[\n" + String.join(",\n", lines) + "\n]\n");
+	}
+}
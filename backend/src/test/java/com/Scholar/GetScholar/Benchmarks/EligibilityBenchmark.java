@@ -0,0 +1,98 @@
+package com.Scholar.GetScholar.Benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.Scholar.GetScholar.Database.Scholarship;
+import com.Scholar.GetScholar.Modules.ActiveScholarshipCatalog;
+import com.Scholar.GetScholar.Modules.EligibilityIndex;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// EligibilityIndex vs a linear filter + sort over the same snapshot
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EligibilityBenchmark {
+
+    private static final String[] CATEGORIES = {"Merit", "Need", "Sports", "STEM", "Arts"};
+
+    @Param({"10000", "50000"})
+    private int scholarships;
+
+    private ActiveScholarshipCatalog.Snapshot snapshot;
+    private EligibilityIndex index;
+    private double[] incomes;
+    private double[] percentages;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<ActiveScholarshipCatalog.Entry> entries = new ArrayList<>(scholarships);
+        for (int i = 0; i < scholarships; i++) {
+            Scholarship scholarship = new Scholarship();
+            scholarship.setId((long) i);
+            scholarship.setAmount((double) random.nextInt(500, 100_000));
+            scholarship.setApplicationDeadline(LocalDate.now().plusDays(random.nextInt(1, 365)));
+            scholarship.setCreatedAt(LocalDateTime.now().minusMinutes(i));
+            scholarship.setMaxFamilyIncome(random.nextInt(10) == 0 ? null : (double) random.nextInt(100_000, 2_000_000));
+            scholarship.setMinPercentage(random.nextInt(10) == 0 ? null : (double) random.nextInt(40, 95));
+            scholarship.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+            entries.add(new ActiveScholarshipCatalog.Entry(scholarship, new byte[0], i));
+        }
+        snapshot = new ActiveScholarshipCatalog.Snapshot(LocalDate.now(), List.copyOf(entries), 0);
+        index = EligibilityIndex.build(snapshot);
+
+        incomes = new double[1024];
+        percentages = new double[1024];
+        for (int i = 0; i < incomes.length; i++) {
+            incomes[i] = random.nextInt(50_000, 2_500_000);
+            percentages[i] = random.nextInt(35, 100);
+        }
+    }
+
+    @Benchmark
+    public List<ActiveScholarshipCatalog.Entry> indexed() {
+        int i = next++ & 1023;
+        return index.match(incomes[i], percentages[i], null, 50);
+    }
+
+    @Benchmark
+    public List<ActiveScholarshipCatalog.Entry> linearScan() {
+        int i = next++ & 1023;
+        double income = incomes[i];
+        double percentage = percentages[i];
+        List<ActiveScholarshipCatalog.Entry> matches = new ArrayList<>();
+        for (ActiveScholarshipCatalog.Entry entry : snapshot.entries()) {
+            Scholarship s = entry.scholarship();
+            if ((s.getMaxFamilyIncome() == null || income <= s.getMaxFamilyIncome())
+                    && (s.getMinPercentage() == null || percentage >= s.getMinPercentage())) {
+                matches.add(entry);
+            }
+        }
+        matches.sort(Comparator.comparing(ActiveScholarshipCatalog.Entry::scholarship,
+            Comparator.comparing(Scholarship::getAmount, Comparator.reverseOrder())
+                .thenComparing(Scholarship::getApplicationDeadline)));
+        return matches.subList(0, Math.min(50, matches.size()));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(EligibilityBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
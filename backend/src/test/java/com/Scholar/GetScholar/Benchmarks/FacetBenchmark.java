@@ -0,0 +1,106 @@
+package com.Scholar.GetScholar.Benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.Scholar.GetScholar.Database.Scholarship;
+import com.Scholar.GetScholar.Modules.ActiveScholarshipCatalog;
+import com.Scholar.GetScholar.Modules.FacetIndex;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// FacetIndex rebuild and a filtered page with all facet counts, vs a linear
+// filter + count pass over the same snapshot
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FacetBenchmark {
+
+    private static final String[] CATEGORIES = {"Merit", "Need", "Sports", "STEM", "Arts", "Research", "Travel",
+        "Women in STEM", "First Generation", "Community"};
+
+    @Param({"100000"})
+    private int scholarships;
+
+    private ActiveScholarshipCatalog.Snapshot snapshot;
+    private FacetIndex index;
+    private FacetIndex.Selection[] selections;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDate today = LocalDate.now();
+        List<ActiveScholarshipCatalog.Entry> entries = new ArrayList<>(scholarships);
+        for (int i = 0; i < scholarships; i++) {
+            Scholarship scholarship = new Scholarship();
+            scholarship.setId((long) (scholarships - i));
+            scholarship.setAmount((double) random.nextInt(500, 100_000));
+            scholarship.setApplicationDeadline(today.plusDays(random.nextInt(1, 365)));
+            scholarship.setCreatedAt(LocalDateTime.now().minusMinutes(i));
+            scholarship.setMaxFamilyIncome(random.nextInt(4) == 0 ? null : (double) random.nextInt(100_000, 2_000_000));
+            scholarship.setMinPercentage(random.nextInt(4) == 0 ? null : (double) random.nextInt(40, 95));
+            scholarship.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+            entries.add(new ActiveScholarshipCatalog.Entry(scholarship, new byte[0], i));
+        }
+        snapshot = new ActiveScholarshipCatalog.Snapshot(today, List.copyOf(entries), 0);
+        index = FacetIndex.build(snapshot);
+
+        selections = new FacetIndex.Selection[] {
+            new FacetIndex.Selection(Map.of(), null, null),
+            new FacetIndex.Selection(Map.of(FacetIndex.Facet.CATEGORY, List.of("STEM")), 5_000.0, null),
+            new FacetIndex.Selection(Map.of(FacetIndex.Facet.CATEGORY, List.of("Need", "Merit"),
+                FacetIndex.Facet.DEADLINE, List.of("8-30-days")), null, null),
+            new FacetIndex.Selection(Map.of(FacetIndex.Facet.INCOME, List.of("over-1000000", "no-limit"),
+                FacetIndex.Facet.PERCENTAGE, List.of("under-60"), FacetIndex.Facet.AMOUNT, List.of("over-25000")),
+                null, 80_000.0),
+        };
+    }
+
+    @Benchmark
+    public FacetIndex build() {
+        return FacetIndex.build(snapshot);
+    }
+
+    @Benchmark
+    public FacetIndex.Result pageWithCounts() {
+        return index.query(selections[next++ & 3], null, 50);
+    }
+
+    // What the endpoint would cost without the index: one pass per request that
+    // filters, pages and counts a single facet (category) with boxed maps
+    @Benchmark
+    public Map<String, Integer> linearScan() {
+        Map<String, Integer> counts = new java.util.HashMap<>();
+        List<ActiveScholarshipCatalog.Entry> page = new ArrayList<>();
+        for (ActiveScholarshipCatalog.Entry entry : snapshot.entries()) {
+            Scholarship s = entry.scholarship();
+            if (s.getAmount() >= 5_000) {
+                counts.merge(s.getCategory(), 1, Integer::sum);
+                if ("STEM".equals(s.getCategory()) && page.size() < 50) {
+                    page.add(entry);
+                }
+            }
+        }
+        return counts;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(FacetBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
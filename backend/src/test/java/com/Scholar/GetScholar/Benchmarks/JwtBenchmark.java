@@ -0,0 +1,68 @@
+package com.Scholar.GetScholar.Benchmarks;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.Scholar.GetScholar.Database.UserDetail;
+import com.Scholar.GetScholar.Security.JwtUtil;
+
+import java.util.concurrent.TimeUnit;
+
+// JwtUtil token issue and verification. verifyUncached has a zero-size verified
+// token cache, so every call pays for the HMAC check and claims parse.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private UserDetail user;
+    private String token;
+    private String uncachedToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(10_000);
+        uncachedJwtUtil = new JwtUtil(0);
+        user = new UserDetail("Student", "student@example.com", "hash");
+        user.setId(42);
+        token = jwtUtil.generateToken(user);
+        uncachedToken = uncachedJwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public Claims verifyCached() {
+        return jwtUtil.verifyToken(token);
+    }
+
+    @Benchmark
+    public Claims verifyUncached() {
+        return uncachedJwtUtil.verifyToken(uncachedToken);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token, "student@example.com");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,101 @@
+package com.Scholar.GetScholar.Benchmarks;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.Scholar.GetScholar.Database.UserDetail;
+import com.Scholar.GetScholar.Security.JwtAuthenticationFilter;
+import com.Scholar.GetScholar.Security.JwtUtil;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// Old triple-parse filter path vs the single-parse + verified-token-cache path.
+// Single thread, so ops/s reads as requests/sec per core.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String EMAIL = "student@example.com";
+
+    private JwtUtil jwtUtil;
+    private SecretKey secretKey;
+    private JwtAuthenticationFilter filter;
+    private UserDetailsService userDetailsService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(10_000);
+        secretKey = (SecretKey) jwtUtil.keyRing().signingKey().signingKey();
+        token = jwtUtil.generateToken(EMAIL);
+
+        UserDetail user = new UserDetail("Student", EMAIL, "hash");
+        userDetailsService = email -> user;
+
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(filter, "userDetailsService", userDetailsService);
+    }
+
+    @Benchmark
+    public Object legacyFilterPath() {
+        // Mirrors the original filter: extractUsername + validateToken = three full parses
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/applications/my-applications");
+        request.addHeader("Authorization", "Bearer " + token);
+        String jwt = request.getHeader("Authorization").substring(7);
+        String email = legacyClaims(jwt).getSubject();
+        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        boolean valid = legacyClaims(jwt).getSubject().equals(userDetails.getUsername())
+                && !legacyClaims(jwt).getExpiration().before(new Date());
+        if (valid) {
+            SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+        }
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Object singleParseFilterPath() throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/applications/my-applications");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private Claims legacyClaims(String jwt) {
+        return Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build()
+                .parseClaimsJws(jwt)
+                .getBody();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtFilterBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
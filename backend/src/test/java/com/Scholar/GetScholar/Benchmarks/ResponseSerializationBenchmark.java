@@ -0,0 +1,126 @@
+package com.Scholar.GetScholar.Benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.Scholar.GetScholar.Database.Scholarship;
+import com.Scholar.GetScholar.Database.ScholarshipApplication;
+import com.Scholar.GetScholar.Modules.ApplicationController;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Response bodies as the message converter writes them: entity lists, and the
+// organization's per-application summary maps built by ApplicationController
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    // KeysetCursor's default and maximum page sizes
+    @Param({"20", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<Scholarship> scholarships;
+    private List<ScholarshipApplication> applications;
+    private List<Map<String, Object>> summaries;
+
+    @Setup
+    public void setUp() {
+        // Same defaults Spring Boot applies to the MVC converter (ISO dates, java.time module)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        scholarships = new ArrayList<>(size);
+        applications = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+        for (int i = 0; i < size; i++) {
+            Scholarship scholarship = new Scholarship();
+            scholarship.setId((long) i);
+            scholarship.setTitle("Merit Scholarship " + i);
+            scholarship.setDescription("Supports undergraduate students with strong academic records in any discipline.");
+            scholarship.setOrganizationName("Example Foundation");
+            scholarship.setAmount(5_000.0 + i);
+            scholarship.setEligibilityCriteria("Minimum 75% in the previous year, family income below 8 lakh.");
+            scholarship.setApplicationDeadline(LocalDate.of(2026, 6, 30));
+            scholarship.setStartDate(LocalDate.of(2026, 8, 1));
+            scholarship.setMaxFamilyIncome(800_000.0);
+            scholarship.setMinPercentage(75.0);
+            scholarship.setAvailableSlots(25);
+            scholarship.setCategory("Merit");
+            scholarship.setStatus("ACTIVE");
+            scholarship.setCreatedBy("org@example.com");
+            scholarship.setCreatedAt(now.minusMinutes(i));
+            scholarship.setUpdatedAt(now.minusMinutes(i));
+            scholarships.add(scholarship);
+
+            ScholarshipApplication application = new ScholarshipApplication();
+            application.setId((long) i);
+            application.setScholarshipId(7L);
+            application.setFullName("Test Student " + i);
+            application.setDateOfBirth(LocalDate.of(2003, 1, 1));
+            application.setGender("F");
+            application.setEmail("student" + i + "@example.com");
+            application.setPhoneNumber("5550100");
+            application.setAddress("1 Campus Road, University Town");
+            application.setNationality("IN");
+            application.setCurrentInstitution("State University");
+            application.setCourseName("Physics");
+            application.setYearOfStudy("2");
+            application.setAcademicPercentage(88.5);
+            application.setAchievements("Olympiad finalist; department rank 3");
+            application.setFamilyIncome(250_000.0);
+            application.setGuardianName("Parent " + i);
+            application.setGuardianOccupation("Teacher");
+            application.setGuardianContact("5550101");
+            application.setReasonForApplying("Tuition and lab fees for the coming year.");
+            application.setDocumentsSubmitted(List.of("uploads/transcript-" + i + ".pdf", "uploads/income-" + i + ".pdf"));
+            application.setStatus("SUBMITTED");
+            application.setApplicantUsername(application.getEmail());
+            application.setCreatedAt(now.minusMinutes(i));
+            application.setUpdatedAt(now.minusMinutes(i));
+            application.setCreatedBy(application.getEmail());
+            applications.add(application);
+        }
+        summaries = applications.stream().map(ApplicationController::organizationSummary).toList();
+    }
+
+    @Benchmark
+    public byte[] scholarships() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(scholarships);
+    }
+
+    @Benchmark
+    public byte[] applications() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(applications);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> buildOrganizationSummaries() {
+        return applications.stream().map(ApplicationController::organizationSummary).toList();
+    }
+
+    @Benchmark
+    public byte[] organizationSummaries() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(summaries);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ResponseSerializationBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,132 @@
+package com.Scholar.GetScholar.Benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.Scholar.GetScholar.Database.Scholarship;
+import com.Scholar.GetScholar.Modules.ActiveScholarshipCatalog;
+import com.Scholar.GetScholar.Modules.SearchIndex;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// SearchIndex build, single-entry incremental update and query latency. Query
+// runs in SampleTime mode so the report includes p99.
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class SearchBenchmark {
+
+    private static final String[] CATEGORIES = {"Merit", "Need", "Sports", "STEM", "Arts"};
+
+    @Param({"100000"})
+    private int scholarships;
+
+    private String[] vocabulary;
+    private ActiveScholarshipCatalog.Snapshot snapshot;
+    private ActiveScholarshipCatalog.Snapshot changed;
+    private SearchIndex index;
+    private String[] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        vocabulary = new String[20_000];
+        String[] syllables = {"ba", "ce", "di", "fo", "gu", "ka", "le", "mi", "no", "pu", "ra", "se", "ti", "vo", "zu",
+            "an", "er", "in", "on", "us"};
+        for (int i = 0; i < vocabulary.length; i++) {
+            StringBuilder word = new StringBuilder();
+            for (int s = 0, n = 2 + random.nextInt(3); s < n; s++) {
+                word.append(syllables[random.nextInt(syllables.length)]);
+            }
+            vocabulary[i] = word.toString();
+        }
+
+        List<ActiveScholarshipCatalog.Entry> entries = new ArrayList<>(scholarships);
+        for (int i = 0; i < scholarships; i++) {
+            entries.add(entry(random, i));
+        }
+        snapshot = new ActiveScholarshipCatalog.Snapshot(LocalDate.now(), List.copyOf(entries), 0);
+        index = SearchIndex.build(snapshot);
+
+        entries.set(scholarships / 2, entry(random, scholarships / 2));
+        changed = new ActiveScholarshipCatalog.Snapshot(LocalDate.now(), List.copyOf(entries), 1);
+
+        // Typeahead mix: zero to two finished words followed by a 2-5 letter prefix
+        queries = new String[1024];
+        for (int i = 0; i < queries.length; i++) {
+            StringBuilder query = new StringBuilder();
+            for (int w = 0, n = random.nextInt(3); w < n; w++) {
+                query.append(word(random)).append(' ');
+            }
+            String last = word(random);
+            query.append(last, 0, Math.min(last.length(), 2 + random.nextInt(4)));
+            queries[i] = query.toString();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public SearchIndex build() {
+        return SearchIndex.build(snapshot);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public SearchIndex incrementalUpdate() {
+        return index.update(changed);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<ActiveScholarshipCatalog.Entry> query() {
+        return index.search(queries[next++ & 1023], 20);
+    }
+
+    private ActiveScholarshipCatalog.Entry entry(SplittableRandom random, int id) {
+        Scholarship scholarship = new Scholarship();
+        scholarship.setId((long) id);
+        scholarship.setTitle(text(random, 3 + random.nextInt(4)));
+        scholarship.setDescription(text(random, 40 + random.nextInt(40)));
+        scholarship.setEligibilityCriteria(text(random, 10 + random.nextInt(10)));
+        scholarship.setOrganizationName(text(random, 2));
+        scholarship.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+        scholarship.setAmount((double) random.nextInt(500, 100_000));
+        scholarship.setCreatedAt(LocalDateTime.now().minusMinutes(id));
+        long contentHash = scholarship.getTitle().hashCode();
+        return new ActiveScholarshipCatalog.Entry(scholarship, new byte[0], (contentHash << 32) | id);
+    }
+
+    private String text(SplittableRandom random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int w = 0; w < words; w++) {
+            text.append(w == 0 ? "" : " ").append(word(random));
+        }
+        return text.toString();
+    }
+
+    // Skewed towards the start of the vocabulary, roughly like natural text
+    private String word(SplittableRandom random) {
+        double u = random.nextDouble();
+        return vocabulary[(int) (vocabulary.length * u * u * u)];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(SearchBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
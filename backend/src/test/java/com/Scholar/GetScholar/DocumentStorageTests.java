@@ -0,0 +1,244 @@
+package com.Scholar.GetScholar;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.Scholar.GetScholar.Database.Scholarship;
+import com.Scholar.GetScholar.Database.ScholarshipApplication;
+import com.Scholar.GetScholar.Database.UserDetail;
+import com.Scholar.GetScholar.Modules.ApplicationService;
+import com.Scholar.GetScholar.Modules.ScholarshipService;
+import com.Scholar.GetScholar.Security.JwtUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Upload and download through a real Tomcat, so downloads take the sendfile path
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class DocumentStorageTests extends SharedPostgres {
+
+	private static final String OWNER = "documents-org@example.com";
+	private static final String APPLICANT = "documents-student@example.com";
+	private static final int MAX_FILE_BYTES = 2 * 1024 * 1024;
+
+	private static Path storeDir;
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) throws Exception {
+		storeDir = Files.createTempDirectory("documents");
+		registry.add("documents.dir", () -> storeDir.toString());
+		registry.add("documents.max-file-bytes", () -> String.valueOf(MAX_FILE_BYTES));
+	}
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private ScholarshipService scholarshipService;
+
+	@Autowired
+	private ApplicationService applicationService;
+
+	private final HttpClient client = HttpClient.newHttpClient();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private Long scholarshipId;
+	private Long applicationId;
+
+	@BeforeEach
+	void application() {
+		Scholarship scholarship = new Scholarship();
+		scholarship.setTitle("Documents Award");
+		scholarship.setOrganizationName("Documents Foundation");
+		scholarship.setAmount(750.0);
+		scholarship.setApplicationDeadline(LocalDate.now().plusDays(30));
+		scholarship.setStartDate(LocalDate.now().plusDays(60));
+		scholarship.setCreatedBy(OWNER);
+		scholarshipId = scholarshipService.createScholarship(scholarship).getId();
+
+		ScholarshipApplication application = new ScholarshipApplication();
+		application.setScholarshipId(scholarshipId);
+		application.setFullName("Documents Student");
+		application.setDateOfBirth(LocalDate.of(2002, 5, 5));
+		application.setGender("M");
+		application.setEmail(APPLICANT);
+		application.setPhoneNumber("5550101");
+		application.setAddress("2 Campus Road");
+		application.setNationality("IN");
+		application.setCurrentInstitution("State University");
+		application.setCourseName("Chemistry");
+		application.setYearOfStudy("3");
+		application.setAcademicPercentage(91.0);
+		application.setFamilyIncome(200000.0);
+		application.setReasonForApplying("Lab fees");
+		application.setApplicantUsername(APPLICANT);
+		applicationId = applicationService.submitApplication(application).getId();
+	}
+
+	@Test
+	void identicalUploadsAreStoredOnceAndServedWithRanges() throws Exception {
+		byte[] pdf = content(1_500_000, 7);
+
+		HttpResponse<String> first = upload(APPLICANT, pdf);
+		assertEquals(201, first.statusCode(), first.body());
+		JsonNode stored = objectMapper.readTree(first.body()).get(0);
+		String sha256 = stored.get("sha256").asText();
+		assertEquals("sha256:" + sha256, stored.get("ref").asText());
+		assertEquals(pdf.length, stored.get("sizeBytes").asLong());
+
+		long files = storedFiles();
+		HttpResponse<String> second = upload(APPLICANT, pdf);
+		assertEquals(201, second.statusCode(), second.body());
+		assertEquals(sha256, objectMapper.readTree(second.body()).get(0).get("sha256").asText());
+		assertEquals(files, storedFiles());
+
+		String path = "/api/applications/" + applicationId + "/documents/" + sha256;
+		HttpResponse<byte[]> full = get(path, OWNER, null);
+		assertEquals(200, full.statusCode());
+		assertArrayEquals(pdf, full.body());
+		assertEquals("application/pdf", full.headers().firstValue("Content-Type").orElse(""));
+		String etag = full.headers().firstValue("ETag").orElseThrow();
+
+		HttpResponse<byte[]> middle = get(path, APPLICANT, "bytes=1000-1999");
+		assertEquals(206, middle.statusCode());
+		assertEquals("bytes 1000-1999/" + pdf.length, middle.headers().firstValue("Content-Range").orElse(""));
+		assertArrayEquals(Arrays.copyOfRange(pdf, 1000, 2000), middle.body());
+
+		HttpResponse<byte[]> tail = get(path, APPLICANT, "bytes=-10");
+		assertEquals(206, tail.statusCode());
+		assertArrayEquals(Arrays.copyOfRange(pdf, pdf.length - 10, pdf.length), tail.body());
+
+		assertEquals(416, get(path, APPLICANT, "bytes=" + pdf.length + "-").statusCode());
+
+		HttpResponse<byte[]> unchanged = client.send(HttpRequest.newBuilder(uri(path))
+			.header("Authorization", token(OWNER)).header("If-None-Match", etag).build(),
+			HttpResponse.BodyHandlers.ofByteArray());
+		assertEquals(304, unchanged.statusCode());
+	}
+
+	@Test
+	void onlyTheApplicationsParticipantsReachItsDocuments() throws Exception {
+		HttpResponse<String> stored = upload(APPLICANT, content(10_000, 11));
+		String sha256 = objectMapper.readTree(stored.body()).get(0).get("sha256").asText();
+		String path = "/api/applications/" + applicationId + "/documents/" + sha256;
+
+		assertEquals(403, get(path, "stranger@example.com", null).statusCode());
+		assertEquals(403, upload(OWNER, content(100, 3)).statusCode());
+		assertEquals(404, get("/api/applications/" + applicationId + "/documents/" + "0".repeat(64), APPLICANT, null)
+			.statusCode());
+	}
+
+	@Test
+	void submittedDocumentRefsAreIgnored() throws Exception {
+		HttpResponse<String> stored = upload(APPLICANT, content(10_000, 13));
+		String sha256 = objectMapper.readTree(stored.body()).get(0).get("sha256").asText();
+
+		String intruder = "documents-intruder@example.com";
+		String body = objectMapper.writeValueAsString(Map.ofEntries(
+			Map.entry("scholarshipId", scholarshipId),
+			Map.entry("fullName", "Documents Intruder"),
+			Map.entry("dateOfBirth", "2001-01-01"),
+			Map.entry("gender", "F"),
+			Map.entry("email", intruder),
+			Map.entry("phoneNumber", "5550199"),
+			Map.entry("address", "9 Campus Road"),
+			Map.entry("nationality", "IN"),
+			Map.entry("currentInstitution", "State University"),
+			Map.entry("courseName", "Physics"),
+			Map.entry("yearOfStudy", "2"),
+			Map.entry("academicPercentage", 80.0),
+			Map.entry("familyIncome", 100000.0),
+			Map.entry("reasonForApplying", "Fees"),
+			Map.entry("documentsSubmitted", List.of("sha256:" + sha256))));
+		HttpResponse<String> submitted = client.send(HttpRequest.newBuilder(uri("/api/applications"))
+			.header("Authorization", token(intruder))
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(body)).build(),
+			HttpResponse.BodyHandlers.ofString());
+		assertEquals(201, submitted.statusCode(), submitted.body());
+		JsonNode created = objectMapper.readTree(submitted.body());
+		assertEquals(0, created.get("documentsSubmitted").size());
+
+		String path = "/api/applications/" + created.get("id").asLong() + "/documents/" + sha256;
+		assertEquals(404, get(path, intruder, null).statusCode());
+	}
+
+	@Test
+	void oversizedUploadsAreRejectedWhileStreaming() throws Exception {
+		HttpResponse<String> response = upload(APPLICANT, content(MAX_FILE_BYTES + 1, 5));
+		assertEquals(413, response.statusCode(), response.body());
+		try (Stream<Path> temps = Files.list(storeDir.resolve("uploads"))) {
+			assertEquals(0, temps.count());
+		}
+	}
+
+	private HttpResponse<String> upload(String user, byte[] file) throws Exception {
+		String boundary = "----documents" + System.nanoTime();
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+		body.write(("--" + boundary + "\r\nContent-Disposition: form-data; name=\"note\"\r\n\r\nfirst transcript\r\n")
+			.getBytes(StandardCharsets.UTF_8));
+		body.write(("--" + boundary + "\r\nContent-Disposition: form-data; name=\"file\"; filename=\"transcript.pdf\"\r\n"
+			+ "Content-Type: application/pdf\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+		body.write(file);
+		body.write(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+		return client.send(HttpRequest.newBuilder(uri("/api/applications/" + applicationId + "/documents"))
+			.header("Authorization", token(user))
+			.header("Content-Type", "multipart/form-data; boundary=" + boundary)
+			.POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray())).build(),
+			HttpResponse.BodyHandlers.ofString());
+	}
+
+	private HttpResponse<byte[]> get(String path, String user, String range) throws Exception {
+		HttpRequest.Builder request = HttpRequest.newBuilder(uri(path)).header("Authorization", token(user));
+		if (range != null) {
+			request.header("Range", range);
+		}
+		return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+	}
+
+	private long storedFiles() throws Exception {
+		try (Stream<Path> files = Files.walk(storeDir)) {
+			return files.filter(Files::isRegularFile).filter(file -> !file.startsWith(storeDir.resolve("uploads"))).count();
+		}
+	}
+
+	private String token(String email) {
+		UserDetail user = new UserDetail("Documents", email, null);
+		user.setId(Math.abs(email.hashCode()));
+		return "Bearer " + jwtUtil.generateToken(user);
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:" + port + path);
+	}
+
+	private static byte[] content(int size, long seed) {
+		byte[] bytes = new byte[size];
+		new Random(seed).nextBytes(bytes);
+		return bytes;
+	}
+}
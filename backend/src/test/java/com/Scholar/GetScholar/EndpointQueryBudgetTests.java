@@ -0,0 +1,123 @@
+package com.Scholar.GetScholar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.Scholar.GetScholar.Database.Scholarship;
+import com.Scholar.GetScholar.Database.ScholarshipApplication;
+import com.Scholar.GetScholar.Database.UserDetail;
+import com.Scholar.GetScholar.Modules.ApplicationService;
+import com.Scholar.GetScholar.Modules.ScholarshipService;
+import com.Scholar.GetScholar.Modules.SqlProfilingFilter;
+import com.Scholar.GetScholar.Security.JwtUtil;
+
+// Statement budgets for the listing endpoints, measured through the SQL profiler
+// on a real Postgres. The budget must not grow with the number of rows listed.
+@SpringBootTest
+@AutoConfigureMockMvc
+class EndpointQueryBudgetTests extends SharedPostgres {
+
+	private static final String ORGANIZATION = "budget-org@example.com";
+	private static final String STUDENT = "budget-student@example.com";
+	private static final int ROWS = 12;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private ScholarshipService scholarshipService;
+
+	@Autowired
+	private ApplicationService applicationService;
+
+	private final List<Long> scholarshipIds = new ArrayList<>();
+
+	@BeforeEach
+	void seed() {
+		for (int i = 0; i < ROWS; i++) {
+			Scholarship scholarship = new Scholarship();
+			scholarship.setTitle("Budget Award " + i);
+			scholarship.setOrganizationName("Budget Foundation");
+			scholarship.setAmount(1000.0 + i);
+			scholarship.setApplicationDeadline(LocalDate.now().plusDays(30));
+			scholarship.setStartDate(LocalDate.now().plusDays(60));
+			scholarship.setCreatedBy(ORGANIZATION);
+			Long id = scholarshipService.createScholarship(scholarship).getId();
+			scholarshipIds.add(id);
+
+			ScholarshipApplication application = new ScholarshipApplication();
+			application.setScholarshipId(id);
+			application.setFullName("Budget Student");
+			application.setDateOfBirth(LocalDate.of(2003, 1, 1));
+			application.setGender("F");
+			application.setEmail(STUDENT);
+			application.setPhoneNumber("5550100");
+			application.setAddress("1 Campus Road");
+			application.setNationality("IN");
+			application.setCurrentInstitution("State University");
+			application.setCourseName("Physics");
+			application.setYearOfStudy("2");
+			application.setAcademicPercentage(88.0);
+			application.setFamilyIncome(250000.0);
+			application.setReasonForApplying("Tuition");
+			application.setApplicantUsername(STUDENT + "." + scholarshipIds.size());
+			applicationService.submitApplication(application);
+		}
+	}
+
+	@Test
+	void listingEndpointsStayWithinTheirBudgets() throws Exception {
+		String organization = token(1, ORGANIZATION);
+
+		SqlProfilingFilter.Profile mine = QueryBudget.assertWithin(2, () ->
+			mockMvc.perform(get("/api/scholarships/my-scholarships").header("Authorization", organization))
+				.andExpect(status().isOk()));
+		assertTrue(mine.repeated(2).isEmpty(), mine.counts().toString());
+
+		QueryBudget.assertWithin(2, () ->
+			mockMvc.perform(get("/api/applications/scholarship/" + scholarshipIds.get(0)).header("Authorization", organization))
+				.andExpect(status().isOk()));
+
+		String student = token(2, STUDENT + ".1");
+		QueryBudget.assertWithin(1, () ->
+			mockMvc.perform(get("/api/applications/my-applications").header("Authorization", student))
+				.andExpect(status().isOk()));
+	}
+
+	@Test
+	void perRowLookupsBreakTheBudget() {
+		AssertionFailedError failure = assertThrows(AssertionFailedError.class, () ->
+			QueryBudget.assertWithin(2, () -> scholarshipIds.forEach(scholarshipService::getScholarshipById)));
+		assertTrue(failure.getMessage().contains(ROWS + "x select"), failure.getMessage());
+	}
+
+	@Test
+	void fingerprintsIgnoreLiteralsAndInListLength() {
+		assertEquals(SqlProfilingFilter.fingerprint("SELECT * FROM t WHERE id IN (?, ?, ?) AND name = 'x' AND n > 5"),
+			SqlProfilingFilter.fingerprint("select *  from t where id in (?,?) and name = 'it''s' and n > 42"));
+	}
+
+	private String token(int id, String email) {
+		UserDetail user = new UserDetail("Budget", email, null);
+		user.setId(id);
+		return "Bearer " + jwtUtil.generateToken(user);
+	}
+}
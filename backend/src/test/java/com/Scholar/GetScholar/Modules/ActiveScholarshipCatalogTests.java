@@ -0,0 +1,217 @@
+package com.Scholar.GetScholar.Modules;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.Scholar.GetScholar.ScholarshipRepository;
+import com.Scholar.GetScholar.Database.ReviewDecision;
+import com.Scholar.GetScholar.Database.Scholarship;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class ActiveScholarshipCatalogTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+	private final LocalDateTime base = LocalDateTime.of(2026, 1, 1, 12, 0);
+	private final ScholarshipRepository repository = mock(ScholarshipRepository.class);
+	private final List<Scholarship> active = new ArrayList<>();
+	private ActiveScholarshipCatalog catalog;
+
+	@BeforeEach
+	void setUp() {
+		for (long id = 1; id <= 5; id++) {
+			active.add(scholarship(id, base.plusMinutes(id)));
+		}
+		when(repository.findByStatusAndApplicationDeadlineAfterOrderByCreatedAtDesc(eq("ACTIVE"), any()))
+			.thenReturn(active);
+
+		catalog = new ActiveScholarshipCatalog();
+		ReflectionTestUtils.setField(catalog, "scholarshipRepository", repository);
+		ReflectionTestUtils.setField(catalog, "objectMapper", objectMapper);
+		catalog.reload();
+	}
+
+	@Test
+	void pagesFollowCursorInCreatedAtDescOrder() throws Exception {
+		ActiveScholarshipCatalog.Page first = catalog.page(null, 2);
+		assertEquals(List.of(5L, 4L), ids(first));
+
+		ActiveScholarshipCatalog.Page second = catalog.page(first.nextCursor(), 2);
+		assertEquals(List.of(3L, 2L), ids(second));
+
+		ActiveScholarshipCatalog.Page last = catalog.page(second.nextCursor(), 2);
+		assertEquals(List.of(1L), ids(last));
+		assertNull(last.nextCursor());
+	}
+
+	@Test
+	void upsertChangesEtagAndClosingRemovesEntry() throws Exception {
+		String before = catalog.page(null, 10).etag();
+
+		Scholarship closed = scholarship(3, base.plusMinutes(3));
+		closed.setStatus("CLOSED");
+		catalog.upsert(closed);
+
+		ActiveScholarshipCatalog.Page after = catalog.page(null, 10);
+		assertEquals(List.of(5L, 4L, 2L, 1L), ids(after));
+		assertNotEquals(before, after.etag());
+
+		catalog.upsert(scholarship(3, base.plusMinutes(3)));
+		assertEquals(before, catalog.page(null, 10).etag());
+	}
+
+	@Test
+	void staleSnapshotIsReloadedOnceWhileOthersAreServedFromIt() throws Exception {
+		@SuppressWarnings("unchecked")
+		AtomicReference<ActiveScholarshipCatalog.Snapshot> current =
+			(AtomicReference<ActiveScholarshipCatalog.Snapshot>) ReflectionTestUtils.getField(catalog, "current");
+		ActiveScholarshipCatalog.Snapshot loaded = current.get();
+		// Yesterday's snapshot, holding one scholarship whose deadline is today
+		active.get(1).setApplicationDeadline(LocalDate.now());
+		current.set(new ActiveScholarshipCatalog.Snapshot(
+			LocalDate.now().minusDays(1), loaded.entries(), loaded.contentHash()));
+
+		CountDownLatch reloading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(repository.findByStatusAndApplicationDeadlineAfterOrderByCreatedAtDesc(eq("ACTIVE"), any()))
+			.thenAnswer(invocation -> {
+				reloading.countDown();
+				release.await();
+				return active.subList(2, 5);
+			});
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<ActiveScholarshipCatalog.Snapshot> reloader = executor.submit(catalog::snapshot);
+			reloading.await();
+
+			ActiveScholarshipCatalog.Page served = catalog.page(null, 10);
+			assertEquals(List.of(5L, 4L, 3L, 1L), ids(served));
+			assertEquals(LocalDate.now().minusDays(1), catalog.snapshot().day());
+
+			release.countDown();
+			assertEquals(LocalDate.now(), reloader.get().day());
+			assertEquals(List.of(5L, 4L, 3L), ids(catalog.page(null, 10)));
+			// Once in setUp, once for the day change
+			verify(repository, times(2)).findByStatusAndApplicationDeadlineAfterOrderByCreatedAtDesc(eq("ACTIVE"), any());
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	// Reviews change availableSlots with conditional UPDATEs outside ScholarshipService
+	@Nested
+	@DataJpaTest(properties = {
+		"spring.flyway.enabled=false",
+		"spring.jpa.hibernate.ddl-auto=create-drop"
+	})
+	@Import({ApplicationService.class, SlotReservationService.class, ApplicationStatsService.class,
+		ActiveScholarshipCatalog.class})
+	@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	class AfterReview {
+
+		@Autowired
+		private ActiveScholarshipCatalog reviewedCatalog;
+
+		@Autowired
+		private ApplicationService applicationService;
+
+		@Autowired
+		private ScholarshipRepository scholarshipRepository;
+
+		@Test
+		void reviewsUpdateTheCachedSlotCount() throws Exception {
+			Scholarship scholarship = ApplicationServiceTests.TestData.scholarship("org@example.com");
+			scholarship.setStatus("ACTIVE");
+			scholarship.setCreatedAt(LocalDateTime.now());
+			scholarship.setAvailableSlots(2);
+			Long scholarshipId = scholarshipRepository.save(scholarship).getId();
+			Long first = applicationService.submitApplication(
+				ApplicationServiceTests.TestData.application(scholarshipId, "first@example.com")).getId();
+			Long second = applicationService.submitApplication(
+				ApplicationServiceTests.TestData.application(scholarshipId, "second@example.com")).getId();
+			reviewedCatalog.reload();
+			String etag = reviewedCatalog.page(null, 10).etag();
+
+			applicationService.reviewApplication(first, "APPROVED", null, "org@example.com");
+			ActiveScholarshipCatalog.Page approved = reviewedCatalog.page(null, 10);
+			assertEquals(1, availableSlots(approved, scholarshipId));
+			assertNotEquals(etag, approved.etag());
+
+			applicationService.reviewApplications(List.of(decision(second, "APPROVED")), "org@example.com");
+			assertEquals(0, availableSlots(reviewedCatalog.page(null, 10), scholarshipId));
+
+			applicationService.reviewApplication(first, "REJECTED", null, "org@example.com");
+			assertEquals(1, availableSlots(reviewedCatalog.page(null, 10), scholarshipId));
+		}
+
+		private int availableSlots(ActiveScholarshipCatalog.Page page, Long scholarshipId) throws Exception {
+			for (JsonNode node : objectMapper.readTree(page.body())) {
+				if (node.get("id").asLong() == scholarshipId) {
+					return node.get("availableSlots").asInt();
+				}
+			}
+			throw new AssertionError("Scholarship " + scholarshipId + " is not in the catalog");
+		}
+
+		private ReviewDecision decision(Long id, String status) {
+			ReviewDecision decision = new ReviewDecision();
+			decision.setId(id);
+			decision.setStatus(status);
+			return decision;
+		}
+	}
+
+	private List<Long> ids(ActiveScholarshipCatalog.Page page) throws Exception {
+		List<Long> ids = new ArrayList<>();
+		for (JsonNode node : objectMapper.readTree(page.body())) {
+			ids.add(node.get("id").asLong());
+		}
+		return ids;
+	}
+
+	private Scholarship scholarship(long id, LocalDateTime createdAt) {
+		Scholarship scholarship = new Scholarship();
+		scholarship.setId(id);
+		scholarship.setTitle("Scholarship " + id);
+		scholarship.setOrganizationName("Example Foundation");
+		scholarship.setAmount(1000.0 * id);
+		scholarship.setApplicationDeadline(LocalDate.now().plusDays(30));
+		scholarship.setStartDate(LocalDate.now().plusDays(60));
+		scholarship.setStatus("ACTIVE");
+		scholarship.setCreatedBy("org@example.com");
+		scholarship.setCreatedAt(createdAt);
+		return scholarship;
+	}
+}
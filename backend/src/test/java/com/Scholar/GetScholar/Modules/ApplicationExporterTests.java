@@ -0,0 +1,107 @@
+package com.Scholar.GetScholar.Modules;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.Scholar.GetScholar.ScholarshipApplicationRepository;
+import com.Scholar.GetScholar.ScholarshipRepository;
+import com.Scholar.GetScholar.Database.ScholarshipApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = {
+	"spring.flyway.enabled=false",
+	"spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import({ApplicationService.class, SlotReservationService.class, ApplicationStatsService.class,
+	ApplicationExporter.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class ApplicationExporterTests {
+
+	@Autowired
+	private ApplicationExporter exporter;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ScholarshipRepository scholarshipRepository;
+
+	@Autowired
+	private ScholarshipApplicationRepository applicationRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Long scholarshipId;
+
+	@BeforeEach
+	void setUp() {
+		scholarshipId = scholarshipRepository.save(ApplicationServiceTests.TestData.scholarship("org@example.com")).getId();
+		ScholarshipApplication quoted = ApplicationServiceTests.TestData.application(scholarshipId, "first@example.com");
+		quoted.setFullName("Doe, Jane \"JD\"");
+		quoted.setFamilyIncome(12_500_000.0);
+		applicationRepository.save(quoted);
+		applicationRepository.save(ApplicationServiceTests.TestData.application(scholarshipId, "second@example.com"));
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	void csvQuotesFieldsAndAvoidsScientificNotation() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		exporter.writeCsv(scholarshipId, out);
+
+		List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+		assertEquals(3, lines.size());
+		assertTrue(lines.get(0).startsWith("id,fullName,email,"));
+		assertTrue(lines.get(1).split(",", 2)[1].startsWith("\"Doe, Jane \"\"JD\"\"\",first@example.com,"));
+		assertTrue(lines.get(1).contains(",12500000,"));
+	}
+
+	@Test
+	void csvNeutralisesFormulaCells() throws Exception {
+		ScholarshipApplication formula = ApplicationServiceTests.TestData.application(scholarshipId, "third@example.com");
+		formula.setFullName("=HYPERLINK(\"http://example.com\",\"x\")");
+		formula.setCurrentInstitution("+cmd|' /C calc'!A0");
+		formula.setCourseName("@SUM(1+1)");
+		applicationRepository.save(formula);
+		entityManager.flush();
+		entityManager.clear();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		exporter.writeCsv(scholarshipId, out);
+
+		String row = out.toString(StandardCharsets.UTF_8).lines()
+			.filter(line -> line.contains("third@example.com")).findFirst().orElseThrow();
+		assertTrue(row.contains(",\"'=HYPERLINK(\"\"http://example.com\"\",\"\"x\"\")\",third@example.com,"), row);
+		assertTrue(row.contains(",\"'+cmd|' /C calc'!A0\","), row);
+		assertTrue(row.contains(",\"'@SUM(1+1)\","), row);
+	}
+
+	@Test
+	void ndjsonWritesOneObjectPerLine() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		exporter.writeNdjson(scholarshipId, out);
+
+		List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+		assertEquals(2, lines.size());
+		JsonNode first = objectMapper.readTree(lines.get(0));
+		assertEquals("Doe, Jane \"JD\"", first.get("fullName").asText());
+		assertEquals("second@example.com", objectMapper.readTree(lines.get(1)).get("email").asText());
+	}
+}
@@ -0,0 +1,205 @@
+package com.Scholar.GetScholar.Modules;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.Scholar.GetScholar.ScholarshipApplicationRepository;
+import com.Scholar.GetScholar.ScholarshipRepository;
+import com.Scholar.GetScholar.SharedPostgres;
+import com.Scholar.GetScholar.Database.Scholarship;
+import com.Scholar.GetScholar.Database.ScholarshipApplication;
+
+// Sustained submit rate of the synchronous path versus the write-behind
+// intake on a real Postgres, and a check that the intake loses nothing.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ApplicationService.class, SlotReservationService.class, ApplicationStatsService.class,
+	ScholarshipService.class, ActiveScholarshipCatalog.class, ApplicationIntake.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ApplicationIntakeLoadTests extends SharedPostgres {
+
+	private static final int CLIENTS = 32;
+	private static final int SUBMITS_PER_CLIENT = 250;
+
+	private static Path walDirectory;
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) throws Exception {
+		walDirectory = Files.createTempDirectory("intake-wal");
+		registry.add("spring.datasource.hikari.maximum-pool-size", () -> CLIENTS);
+		registry.add("spring.jpa.show-sql", () -> "false");
+		registry.add("intake.mode", () -> "async");
+		registry.add("intake.wal.dir", () -> walDirectory.toString());
+	}
+
+	@Autowired
+	private ApplicationService applicationService;
+
+	@Autowired
+	private ApplicationIntake applicationIntake;
+
+	@Autowired
+	private ScholarshipRepository scholarshipRepository;
+
+	@Autowired
+	private ActiveScholarshipCatalog catalog;
+
+	@Autowired
+	private ScholarshipApplicationRepository applicationRepository;
+
+	@AfterEach
+	void cleanUp() {
+		applicationRepository.deleteAll();
+	}
+
+	// 16000 inserts plus a throughput report, so opt-in:
+	//   mvn test -Dtest=ApplicationIntakeLoadTests -Dloadtest=true
+	@Test
+	@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+	void writeBehindOutpacesSynchronousInserts() throws Exception {
+		Long scholarshipId = activeScholarship();
+		int total = CLIENTS * SUBMITS_PER_CLIENT;
+
+		double syncSeconds = run((client, i) -> applicationService.submitApplication(
+			ApplicationServiceTests.TestData.application(scholarshipId, "sync-" + client + "-" + i + "@example.com")));
+		assertEquals(total, applicationRepository.count());
+
+		List<String> trackingIds = new ArrayList<>();
+		long startedAt = System.nanoTime();
+		double asyncSeconds = run((client, i) -> {
+			String id = applicationIntake.submit(ApplicationServiceTests.TestData.application(
+				scholarshipId, "async-" + client + "-" + i + "@example.com")).trackingId();
+			synchronized (trackingIds) {
+				trackingIds.add(id);
+			}
+			return id;
+		});
+		while (applicationRepository.count() < 2L * total) {
+			Thread.sleep(20);
+		}
+		double drainedSeconds = (System.nanoTime() - startedAt) / 1e9;
+
+		System.out.printf("intake: %d submits from %d clients%n", total, CLIENTS);
+		System.out.printf("  sync insert      %.0f submits/s%n", total / syncSeconds);
+		System.out.printf("  async ack        %.0f submits/s%n", total / asyncSeconds);
+		System.out.printf("  async persisted  %.0f submits/s%n", total / drainedSeconds);
+
+		for (String trackingId : trackingIds) {
+			assertEquals(ApplicationIntake.State.WRITTEN, applicationIntake.status(trackingId).orElseThrow().state());
+		}
+	}
+
+	@Test
+	void duplicateIsAcknowledgedThenRejected() throws Exception {
+		Long scholarshipId = activeScholarship();
+		String first = applicationIntake.submit(
+			ApplicationServiceTests.TestData.application(scholarshipId, "twice@example.com")).trackingId();
+		String second = applicationIntake.submit(
+			ApplicationServiceTests.TestData.application(scholarshipId, "twice@example.com")).trackingId();
+
+		while (applicationIntake.status(second).orElseThrow().state() == ApplicationIntake.State.QUEUED) {
+			Thread.sleep(20);
+		}
+		assertEquals(ApplicationIntake.State.WRITTEN, applicationIntake.status(first).orElseThrow().state());
+		assertEquals(ApplicationIntake.State.REJECTED, applicationIntake.status(second).orElseThrow().state());
+		assertEquals(1, applicationRepository.count());
+	}
+
+	@Test
+	void batchRetriedAfterAFailedCheckpointStaysWritten() throws Exception {
+		Long scholarshipId = activeScholarship();
+		IntakeLog log = (IntakeLog) ReflectionTestUtils.getField(applicationIntake, "log");
+		awaitCheckpointed(log);
+		// A directory where the checkpoint's temp file goes makes the checkpoint throw
+		Path blocker = Files.createDirectory(walDirectory.resolve("checkpoint.tmp"));
+		try {
+			String trackingId = applicationIntake.submit(
+				ApplicationServiceTests.TestData.application(scholarshipId, "retried@example.com")).trackingId();
+			ApplicationIntake.IntakeStatus first = applicationIntake.status(trackingId).orElseThrow();
+			while (first.state() == ApplicationIntake.State.QUEUED) {
+				Thread.sleep(20);
+				first = applicationIntake.status(trackingId).orElseThrow();
+			}
+			// Every attempt settles the status again, so a new instance means the batch was retried
+			while (applicationIntake.status(trackingId).orElseThrow() == first) {
+				Thread.sleep(20);
+			}
+			Files.delete(blocker);
+			awaitCheckpointed(log);
+
+			ApplicationIntake.IntakeStatus settled = applicationIntake.status(trackingId).orElseThrow();
+			assertEquals(ApplicationIntake.State.WRITTEN, settled.state(), settled.error());
+			assertEquals(first.applicationId(), settled.applicationId());
+			assertEquals(1, applicationRepository.count());
+		} finally {
+			Files.deleteIfExists(blocker);
+		}
+	}
+
+	private static void awaitCheckpointed(IntakeLog log) throws InterruptedException {
+		while (!log.replay(log.checkpoint()).isEmpty()) {
+			Thread.sleep(20);
+		}
+	}
+
+	private interface Submit {
+		Object submit(int client, int i) throws Exception;
+	}
+
+	private static double run(Submit submit) throws Exception {
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+		List<Future<?>> clients = new ArrayList<>();
+		for (int c = 0; c < CLIENTS; c++) {
+			int client = c;
+			clients.add(executor.submit((Callable<Void>) () -> {
+				start.await();
+				for (int i = 0; i < SUBMITS_PER_CLIENT; i++) {
+					submit.submit(client, i);
+				}
+				return null;
+			}));
+		}
+		long startedAt = System.nanoTime();
+		start.countDown();
+		for (Future<?> client : clients) {
+			client.get();
+		}
+		executor.shutdown();
+		return (System.nanoTime() - startedAt) / 1e9;
+	}
+
+	// Saved behind the service's back, so refresh the catalog as its event would
+	private Long activeScholarship() {
+		Scholarship scholarship = ApplicationServiceTests.TestData.scholarship("org@example.com");
+		scholarship.setStatus("ACTIVE");
+		Long id = scholarshipRepository.save(scholarship).getId();
+		catalog.reload();
+		return id;
+	}
+}
@@ -0,0 +1,214 @@
+package com.Scholar.GetScholar.Modules;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.Scholar.GetScholar.ScholarshipApplicationRepository;
+import com.Scholar.GetScholar.ScholarshipRepository;
+import com.Scholar.GetScholar.Database.ApplicationWithScholarship;
+import com.Scholar.GetScholar.Database.OrganizationApplicationSummary;
+import com.Scholar.GetScholar.Database.ReviewDecision;
+import com.Scholar.GetScholar.Database.ReviewResult;
+import com.Scholar.GetScholar.Database.Scholarship;
+import com.Scholar.GetScholar.Database.ScholarshipApplication;
+import com.Scholar.GetScholar.Database.ScholarshipStats;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = {
+	"spring.jpa.properties.hibernate.generate_statistics=true",
+	"spring.flyway.enabled=false",
+	"spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import({ApplicationService.class, SlotReservationService.class, ApplicationStatsService.class})
+class ApplicationServiceTests {
+
+	@Autowired
+	private ApplicationService applicationService;
+
+	@Autowired
+	private ScholarshipRepository scholarshipRepository;
+
+	@Autowired
+	private ScholarshipApplicationRepository applicationRepository;
+
+	@Autowired
+	private ApplicationStatsService statsService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	void myApplicationsQueryCountDoesNotGrowWithApplications() {
+		long withOne = queriesFor("one@example.com", 1);
+		long withEighty = queriesFor("eighty@example.com", 80);
+
+		assertEquals(1, withOne);
+		assertEquals(withOne, withEighty);
+	}
+
+	@Test
+	void organizationSummaryPagesThroughEveryApplicationOnce() {
+		for (int i = 0; i < 5; i++) {
+			Scholarship scholarship = scholarshipRepository.save(TestData.scholarship("org@example.com"));
+			applicationRepository.save(TestData.application(scholarship.getId(), "student" + i + "@example.com"));
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		Set<Long> seen = new HashSet<>();
+		KeysetCursor cursor = null;
+		int pages = 0;
+		while (true) {
+			List<OrganizationApplicationSummary> rows =
+				applicationService.getApplicationSummariesForOrganization("org@example.com", cursor, 2);
+			List<OrganizationApplicationSummary> page = rows.subList(0, Math.min(rows.size(), 2));
+			page.forEach(row -> assertTrue(seen.add(row.getApplicationId())));
+			pages++;
+			if (rows.size() <= 2) {
+				break;
+			}
+			OrganizationApplicationSummary last = page.get(page.size() - 1);
+			cursor = KeysetCursor.decode(new KeysetCursor(last.getCreatedAt(), last.getApplicationId()).encode());
+		}
+
+		assertEquals(5, seen.size());
+		assertEquals(3, pages);
+	}
+
+	@Test
+	void batchReviewReportsEachItem() {
+		Scholarship own = TestData.scholarship("org@example.com");
+		own.setAvailableSlots(1);
+		Long ownId = scholarshipRepository.save(own).getId();
+		Long foreignId = scholarshipRepository.save(TestData.scholarship("other@example.com")).getId();
+		Long first = applicationRepository.save(TestData.application(ownId, "first@example.com")).getId();
+		Long second = applicationRepository.save(TestData.application(ownId, "second@example.com")).getId();
+		Long foreign = applicationRepository.save(TestData.application(foreignId, "third@example.com")).getId();
+		entityManager.flush();
+		entityManager.clear();
+
+		List<ReviewResult> results = applicationService.reviewApplications(List.of(
+			decision(first, "APPROVED"),
+			decision(second, "APPROVED"),
+			decision(foreign, "REJECTED"),
+			decision(-1L, "APPROVED"),
+			decision(first, "REJECTED"),
+			decision(second, "MAYBE")
+		), "org@example.com");
+
+		assertEquals(List.of(ReviewResult.Outcome.UPDATED, ReviewResult.Outcome.NO_SLOTS, ReviewResult.Outcome.FORBIDDEN,
+				ReviewResult.Outcome.NOT_FOUND, ReviewResult.Outcome.INVALID, ReviewResult.Outcome.INVALID),
+			results.stream().map(ReviewResult::getOutcome).toList());
+
+		entityManager.clear();
+		assertEquals("APPROVED", applicationRepository.findById(first).orElseThrow().getStatus());
+		assertEquals("SUBMITTED", applicationRepository.findById(second).orElseThrow().getStatus());
+		assertEquals("SUBMITTED", applicationRepository.findById(foreign).orElseThrow().getStatus());
+		assertEquals(0, scholarshipRepository.findById(ownId).orElseThrow().getAvailableSlots());
+	}
+
+	@Test
+	void statsFollowSubmitAndReviewAndReconcileRepairsDrift() {
+		Long scholarshipId = scholarshipRepository.save(TestData.scholarship("org@example.com")).getId();
+		statsService.createFor(scholarshipId);
+		Long first = applicationService.submitApplication(TestData.application(scholarshipId, "first@example.com")).getId();
+		Long second = applicationService.submitApplication(TestData.application(scholarshipId, "second@example.com")).getId();
+		applicationService.submitApplication(TestData.application(scholarshipId, "third@example.com"));
+
+		applicationService.reviewApplication(first, "APPROVED", null, "org@example.com");
+		applicationService.reviewApplications(List.of(decision(second, "REJECTED")), "org@example.com");
+		applicationService.reviewApplication(first, "REJECTED", null, "org@example.com");
+		entityManager.clear();
+
+		assertStats(scholarshipId, 1, 0, 2);
+
+		jdbcTemplate.update("UPDATE scholarship_application_stats SET submitted = 7 WHERE scholarship_id = ?", scholarshipId);
+		jdbcTemplate.update("UPDATE scholarship_applications SET status = 'APPROVED' WHERE id = ?", second);
+		statsService.reconcile();
+		entityManager.clear();
+
+		assertStats(scholarshipId, 1, 1, 1);
+	}
+
+	private void assertStats(Long scholarshipId, long submitted, long approved, long rejected) {
+		ScholarshipStats stats = statsService.getStats(scholarshipId);
+		assertEquals(List.of(submitted, approved, rejected),
+			List.of(stats.getSubmitted(), stats.getApproved(), stats.getRejected()));
+	}
+
+	private static ReviewDecision decision(Long id, String status) {
+		ReviewDecision decision = new ReviewDecision();
+		decision.setId(id);
+		decision.setStatus(status);
+		return decision;
+	}
+
+	private long queriesFor(String applicant, int applicationCount) {
+		for (int i = 0; i < applicationCount; i++) {
+			Scholarship scholarship = scholarshipRepository.save(TestData.scholarship("org@example.com"));
+			applicationRepository.save(TestData.application(scholarship.getId(), applicant));
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		Statistics statistics = entityManager.getEntityManagerFactory()
+			.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		List<ApplicationWithScholarship> rows = applicationService.getApplicationSummariesByUser(applicant, null, KeysetCursor.MAX_LIMIT);
+		assertEquals(applicationCount, rows.size());
+		rows.forEach(row -> assertEquals("Merit Award", row.getScholarshipTitle()));
+		return statistics.getPrepareStatementCount();
+	}
+
+	static class TestData {
+
+		static Scholarship scholarship(String createdBy) {
+			Scholarship scholarship = new Scholarship();
+			scholarship.setTitle("Merit Award");
+			scholarship.setOrganizationName("Example Foundation");
+			scholarship.setAmount(5000.0);
+			scholarship.setApplicationDeadline(LocalDate.now().plusDays(30));
+			scholarship.setStartDate(LocalDate.now().plusDays(60));
+			scholarship.setCreatedBy(createdBy);
+			return scholarship;
+		}
+
+		static ScholarshipApplication application(Long scholarshipId, String applicant) {
+			ScholarshipApplication application = new ScholarshipApplication();
+			application.setScholarshipId(scholarshipId);
+			application.setFullName("Test Student");
+			application.setDateOfBirth(LocalDate.of(2003, 1, 1));
+			application.setGender("F");
+			application.setEmail(applicant);
+			application.setPhoneNumber("5550100");
+			application.setAddress("1 Campus Road");
+			application.setNationality("IN");
+			application.setCurrentInstitution("State University");
+			application.setCourseName("Physics");
+			application.setYearOfStudy("2");
+			application.setAcademicPercentage(88.0);
+			application.setFamilyIncome(250000.0);
+			application.setReasonForApplying("Tuition");
+			application.setApplicantUsername(applicant);
+			return application;
+		}
+	}
+}
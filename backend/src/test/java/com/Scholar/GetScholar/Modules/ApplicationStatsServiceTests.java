@@ -0,0 +1,143 @@
+package com.Scholar.GetScholar.Modules;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.Scholar.GetScholar.SharedPostgres;
+import com.Scholar.GetScholar.Database.ReviewDecision;
+import com.Scholar.GetScholar.Database.ReviewResult;
+import com.Scholar.GetScholar.Database.ScholarshipStats;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// The stats counters against the applications they count, on the Flyway schema
+// in a real Postgres; every service call commits (or rolls back) on its own
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ApplicationService.class, SlotReservationService.class, ApplicationStatsService.class,
+	ScholarshipService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ApplicationStatsServiceTests extends SharedPostgres {
+
+	private static final String OWNER = "stats-org@example.com";
+
+	@Autowired
+	private ApplicationStatsService statsService;
+
+	@Autowired
+	private ApplicationService applicationService;
+
+	@Autowired
+	private ScholarshipService scholarshipService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void submitAndReviewsKeepTheCountsExact() {
+		Long scholarshipId = scholarship();
+		List<Long> ids = submit(scholarshipId, 5);
+		assertCounts(scholarshipId, 5, 0, 0);
+
+		applicationService.reviewApplication(ids.get(0), "APPROVED", null, OWNER);
+		assertCounts(scholarshipId, 4, 1, 0);
+
+		// Two new decisions, one reversal and one invalid entry that changes nothing
+		List<ReviewResult> results = applicationService.reviewApplications(List.of(
+			decision(ids.get(1), "APPROVED"),
+			decision(ids.get(2), "REJECTED"),
+			decision(ids.get(0), "REJECTED"),
+			decision(ids.get(3), "SUBMITTED")), OWNER);
+		assertEquals(ReviewResult.Outcome.INVALID, results.get(3).getOutcome());
+		assertCounts(scholarshipId, 2, 1, 2);
+	}
+
+	@Test
+	void rolledBackReviewLeavesTheCountsAlone() {
+		Long scholarshipId = scholarship();
+		Long id = submit(scholarshipId, 1).get(0);
+
+		new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+			applicationService.reviewApplication(id, "APPROVED", null, OWNER);
+			tx.setRollbackOnly();
+		});
+
+		assertCounts(scholarshipId, 1, 0, 0);
+	}
+
+	@Test
+	void reconcileRepairsDriftedAndMissingRows() {
+		Long drifted = scholarship();
+		List<Long> ids = submit(drifted, 3);
+		applicationService.reviewApplication(ids.get(0), "REJECTED", null, OWNER);
+		Long missing = scholarship();
+		submit(missing, 2);
+
+		jdbcTemplate.update("UPDATE scholarship_application_stats SET submitted = 40, approved = 7 WHERE scholarship_id = ?",
+			drifted);
+		jdbcTemplate.update("DELETE FROM scholarship_application_stats WHERE scholarship_id = ?", missing);
+		statsService.reconcile();
+
+		assertCounts(drifted, 2, 0, 1);
+		assertCounts(missing, 2, 0, 0);
+	}
+
+	@Test
+	void creatingAScholarshipInsertsItsRowWithoutASelect() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		Long scholarshipId = scholarship();
+
+		// Only the scholarship INSERT goes through Hibernate; the stats row is plain JDBC
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertCounts(scholarshipId, 0, 0, 0);
+	}
+
+	private Long scholarship() {
+		return scholarshipService.createScholarship(ApplicationServiceTests.TestData.scholarship(OWNER)).getId();
+	}
+
+	private List<Long> submit(Long scholarshipId, int count) {
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			ids.add(applicationService.submitApplication(ApplicationServiceTests.TestData.application(
+				scholarshipId, "stats-" + scholarshipId + "-" + i + "@example.com")).getId());
+		}
+		return ids;
+	}
+
+	private void assertCounts(Long scholarshipId, long submitted, long approved, long rejected) {
+		ScholarshipStats stats = statsService.getStats(scholarshipId);
+		assertEquals(List.of(submitted, approved, rejected),
+			List.of(stats.getSubmitted(), stats.getApproved(), stats.getRejected()));
+	}
+
+	private static ReviewDecision decision(Long id, String status) {
+		ReviewDecision decision = new ReviewDecision();
+		decision.setId(id);
+		decision.setStatus(status);
+		return decision;
+	}
+}
@@ -0,0 +1,116 @@
+package com.Scholar.GetScholar.Modules;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.Scholar.GetScholar.UserRepo;
+import com.Scholar.GetScholar.Database.UserDetail;
+import com.Scholar.GetScholar.Security.TokenVersionRegistry;
+
+class CustomUserDetailsServiceTests {
+
+	private static final String EMAIL = "student@example.com";
+
+	private UserRepo userRepo;
+	private TokenVersionRegistry registry;
+	private CustomUserDetailsService service;
+	private UserDetail user;
+
+	@BeforeEach
+	void setUp() {
+		userRepo = mock(UserRepo.class);
+		user = new UserDetail("Student", EMAIL, "hash");
+		when(userRepo.findByEmail(EMAIL)).thenAnswer(invocation -> {
+			Thread.sleep(50);
+			return Optional.of(user);
+		});
+
+		registry = new TokenVersionRegistry();
+		service = new CustomUserDetailsService();
+		ReflectionTestUtils.setField(service, "userDetailRepository", userRepo);
+		ReflectionTestUtils.setField(service, "tokenVersionRegistry", registry);
+		ReflectionTestUtils.setField(service, "cacheMaxSize", 100L);
+		ReflectionTestUtils.setField(service, "cacheTtl", Duration.ofMinutes(5));
+		service.initCache();
+	}
+
+	@Test
+	void concurrentLoginsForSameEmailHitRepositoryOnce() throws Exception {
+		int threads = 32;
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<UserDetails>> results = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			results.add(pool.submit(() -> {
+				start.await();
+				return service.loadUserByUsername(EMAIL);
+			}));
+		}
+		start.countDown();
+		for (Future<UserDetails> result : results) {
+			assertSame(user, result.get());
+		}
+		pool.shutdown();
+
+		verify(userRepo, times(1)).findByEmail(EMAIL);
+	}
+
+	@Test
+	void addUserEvictsCachedEntry() {
+		service.loadUserByUsername(EMAIL);
+		service.addUser(user);
+		service.loadUserByUsername(EMAIL);
+
+		verify(userRepo, times(2)).findByEmail(EMAIL);
+	}
+
+	@Test
+	void revokedVersionIsRecordedOnlyOnceTheTransactionCommits() {
+		user.setTokenVersion(1);
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			service.revokeTokens(EMAIL);
+			assertEquals(0, registry.currentVersion(EMAIL));
+
+			List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+			synchronizations.forEach(TransactionSynchronization::afterCommit);
+			assertEquals(1, registry.currentVersion(EMAIL));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void rolledBackRevocationIsNotRecorded() {
+		user.setTokenVersion(1);
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			service.revokeTokens(EMAIL);
+			TransactionSynchronizationManager.getSynchronizations()
+				.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+			assertEquals(0, registry.currentVersion(EMAIL));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+}
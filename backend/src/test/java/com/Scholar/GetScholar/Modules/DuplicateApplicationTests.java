@@ -0,0 +1,100 @@
+package com.Scholar.GetScholar.Modules;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.Scholar.GetScholar.ScholarshipApplicationRepository;
+import com.Scholar.GetScholar.ScholarshipRepository;
+import com.Scholar.GetScholar.Database.Scholarship;
+
+// Each submit commits on its own thread, so the unique constraint is what
+// arbitrates between concurrent attempts.
+@DataJpaTest(properties = {
+	"spring.flyway.enabled=false",
+	"spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import({ApplicationService.class, SlotReservationService.class, ApplicationStatsService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DuplicateApplicationTests {
+
+	private static final int ATTEMPTS = 16;
+
+	@Autowired
+	private ApplicationService applicationService;
+
+	@Autowired
+	private ScholarshipRepository scholarshipRepository;
+
+	@Autowired
+	private ScholarshipApplicationRepository applicationRepository;
+
+	@AfterEach
+	void cleanUp() {
+		applicationRepository.deleteAll();
+		scholarshipRepository.deleteAll();
+	}
+
+	@Test
+	void concurrentSubmitsForSameScholarshipStoreExactlyOne() throws Exception {
+		Long scholarshipId = scholarshipRepository.save(
+			ApplicationServiceTests.TestData.scholarship("org@example.com")).getId();
+
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(ATTEMPTS);
+		List<Future<?>> futures = new ArrayList<>();
+		try {
+			for (int i = 0; i < ATTEMPTS; i++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					return applicationService.submitApplication(
+						ApplicationServiceTests.TestData.application(scholarshipId, "student@example.com"));
+				}));
+			}
+			start.countDown();
+
+			int succeeded = 0;
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+					succeeded++;
+				} catch (ExecutionException e) {
+					assertInstanceOf(DuplicateApplicationException.class, e.getCause());
+				}
+			}
+			assertEquals(1, succeeded);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(1, applicationRepository.count());
+		assertTrue(applicationService.hasUserApplied("student@example.com", scholarshipId));
+	}
+
+	@Test
+	void sameApplicantMayApplyToDifferentScholarships() {
+		Scholarship first = scholarshipRepository.save(ApplicationServiceTests.TestData.scholarship("org@example.com"));
+		Scholarship second = scholarshipRepository.save(ApplicationServiceTests.TestData.scholarship("org@example.com"));
+
+		applicationService.submitApplication(ApplicationServiceTests.TestData.application(first.getId(), "student@example.com"));
+		applicationService.submitApplication(ApplicationServiceTests.TestData.application(second.getId(), "student@example.com"));
+
+		assertEquals(2, applicationRepository.count());
+	}
+}
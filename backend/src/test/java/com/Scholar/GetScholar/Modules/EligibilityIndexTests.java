@@ -0,0 +1,136 @@
+package com.Scholar.GetScholar.Modules;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.Scholar.GetScholar.Database.Scholarship;
+
+class EligibilityIndexTests {
+
+	// Few distinct values, so ties and exact-boundary queries are common
+	private static final Double[] INCOME_LIMITS = {100_000.0, 200_000.0, 300_000.0, null};
+	private static final Double[] PERCENTAGE_LIMITS = {50.0, 60.0, 70.0, null};
+	private static final String[] CATEGORIES = {"Merit", " merit ", "Need", "STEM", null};
+
+	@Test
+	void matchesTheLinearFilterOnRandomSnapshots() {
+		Random random = new Random(7);
+		for (int round = 0; round < 200; round++) {
+			List<Scholarship> scholarships = new ArrayList<>();
+			int size = random.nextInt(60);
+			for (long id = 1; id <= size; id++) {
+				scholarships.add(scholarship(id, random.nextInt(5) * 1000.0,
+					LocalDate.now().plusDays(1 + random.nextInt(5)),
+					pick(random, INCOME_LIMITS), pick(random, PERCENTAGE_LIMITS), pick(random, CATEGORIES)));
+			}
+			EligibilityIndex index = EligibilityIndex.build(snapshot(scholarships));
+
+			for (int query = 0; query < 20; query++) {
+				double income = random.nextBoolean() ? 50_000.0 * random.nextInt(8) : nonNull(random, INCOME_LIMITS);
+				double percentage = random.nextBoolean() ? 10.0 * random.nextInt(11) : nonNull(random, PERCENTAGE_LIMITS);
+				String category = random.nextInt(3) == 0 ? null : pick(random, new String[] {"MERIT", "need ", "Stem"});
+				int limit = 1 + random.nextInt(size + 5);
+				assertEquals(linear(scholarships, income, percentage, category, limit),
+					ids(index.match(income, percentage, category, limit)),
+					() -> "income " + income + ", percentage " + percentage + ", category " + category + ", limit " + limit);
+			}
+		}
+	}
+
+	@Test
+	void thresholdsAreInclusiveAndMissingOnesDoNotLimit() {
+		EligibilityIndex index = EligibilityIndex.build(snapshot(List.of(
+			scholarship(1, 3000.0, LocalDate.now().plusDays(5), 200_000.0, 60.0, "Merit"),
+			scholarship(2, 2000.0, LocalDate.now().plusDays(5), null, 90.0, "Merit"),
+			scholarship(3, 1000.0, LocalDate.now().plusDays(5), 100_000.0, null, "Need"))));
+
+		assertEquals(List.of(1L), ids(index.match(200_000.0, 60.0, null, 10)));
+		assertEquals(List.of(), ids(index.match(200_000.01, 60.0, null, 10)));
+		assertEquals(List.of(), ids(index.match(200_000.0, 59.99, null, 10)));
+		assertEquals(List.of(1L, 2L, 3L), ids(index.match(0.0, 100.0, null, 10)));
+		assertEquals(List.of(2L), ids(index.match(5_000_000.0, 90.0, null, 10)));
+		assertEquals(List.of(3L), ids(index.match(100_000.0, 0.0, null, 10)));
+	}
+
+	@Test
+	void categoriesAreNormalisedAndUnknownOnesMatchNothing() {
+		EligibilityIndex index = EligibilityIndex.build(snapshot(List.of(
+			scholarship(1, 3000.0, LocalDate.now().plusDays(5), null, null, " Merit"),
+			scholarship(2, 2000.0, LocalDate.now().plusDays(5), null, null, "need"),
+			scholarship(3, 1000.0, LocalDate.now().plusDays(5), null, null, null))));
+
+		assertEquals(List.of(1L), ids(index.match(0.0, 0.0, "MERIT ", 10)));
+		assertEquals(List.of(2L), ids(index.match(0.0, 0.0, "Need", 10)));
+		assertEquals(List.of(), ids(index.match(0.0, 0.0, "Sports", 10)));
+		assertEquals(List.of(1L, 2L, 3L), ids(index.match(0.0, 0.0, " ", 10)));
+	}
+
+	@Test
+	void limitKeepsTheBestRanked() {
+		EligibilityIndex index = EligibilityIndex.build(snapshot(List.of(
+			scholarship(1, 1000.0, LocalDate.now().plusDays(5), null, null, null),
+			scholarship(2, 3000.0, LocalDate.now().plusDays(9), null, null, null),
+			scholarship(3, 3000.0, LocalDate.now().plusDays(2), null, null, null),
+			scholarship(4, 2000.0, LocalDate.now().plusDays(5), null, null, null))));
+
+		assertEquals(List.of(3L, 2L), ids(index.match(0.0, 0.0, null, 2)));
+		assertEquals(List.of(3L, 2L, 4L, 1L), ids(index.match(0.0, 0.0, null, 10)));
+	}
+
+	private static List<Long> linear(List<Scholarship> scholarships, double income, double percentage,
+									 String category, int limit) {
+		List<Scholarship> matches = new ArrayList<>();
+		for (Scholarship s : scholarships) {
+			if ((s.getMaxFamilyIncome() == null || income <= s.getMaxFamilyIncome())
+					&& (s.getMinPercentage() == null || percentage >= s.getMinPercentage())
+					&& (category == null || (s.getCategory() != null && normalize(s.getCategory()).equals(normalize(category))))) {
+				matches.add(s);
+			}
+		}
+		matches.sort(EligibilityIndex.RANKING);
+		return matches.stream().limit(limit).map(Scholarship::getId).toList();
+	}
+
+	private static String normalize(String category) {
+		return category.trim().toLowerCase(Locale.ROOT);
+	}
+
+	private static List<Long> ids(List<ActiveScholarshipCatalog.Entry> entries) {
+		return entries.stream().map(entry -> entry.scholarship().getId()).toList();
+	}
+
+	private static ActiveScholarshipCatalog.Snapshot snapshot(List<Scholarship> scholarships) {
+		List<ActiveScholarshipCatalog.Entry> entries = new ArrayList<>();
+		for (Scholarship scholarship : scholarships) {
+			entries.add(new ActiveScholarshipCatalog.Entry(scholarship, new byte[0], scholarship.getId()));
+		}
+		return new ActiveScholarshipCatalog.Snapshot(LocalDate.now(), List.copyOf(entries), 0);
+	}
+
+	private static Scholarship scholarship(long id, Double amount, LocalDate deadline, Double maxFamilyIncome,
+										   Double minPercentage, String category) {
+		Scholarship scholarship = new Scholarship();
+		scholarship.setId(id);
+		scholarship.setAmount(amount);
+		scholarship.setApplicationDeadline(deadline);
+		scholarship.setMaxFamilyIncome(maxFamilyIncome);
+		scholarship.setMinPercentage(minPercentage);
+		scholarship.setCategory(category);
+		return scholarship;
+	}
+
+	private static <T> T pick(Random random, T[] values) {
+		return values[random.nextInt(values.length)];
+	}
+
+	private static double nonNull(Random random, Double[] values) {
+		return values[random.nextInt(values.length - 1)];
+	}
+}
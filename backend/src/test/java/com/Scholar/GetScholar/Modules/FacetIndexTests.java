@@ -0,0 +1,92 @@
+package com.Scholar.GetScholar.Modules;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.Scholar.GetScholar.Database.Scholarship;
+
+class FacetIndexTests {
+
+	private final LocalDate today = LocalDate.of(2026, 3, 1);
+
+	private final FacetIndex index = FacetIndex.build(new ActiveScholarshipCatalog.Snapshot(today, List.of(
+		// Catalog order: newest first
+		entry(6, "STEM", 30_000, 5, null, 90.0),
+		entry(5, "Arts", 800, 20, 250_000.0, null),
+		entry(4, "STEM", 7_500, 45, 500_000.0, 70.0),
+		entry(3, "stem", 2_000, 200, 250_001.0, 55.0),
+		entry(2, "Need", 12_000, 3, 1_500_000.0, null),
+		entry(1, null, 4_999, 60, null, 75.0)), 0));
+
+	@Test
+	void countsEachFacetAgainstTheOtherFilters() {
+		FacetIndex.Result result = index.query(selection(Map.of(FacetIndex.Facet.CATEGORY, List.of("STEM")), null),
+			null, 10);
+
+		assertEquals(List.of(6L, 4L, 3L), ids(result.page()));
+		assertEquals(3, result.total());
+		// The category facet ignores the category filter itself
+		assertEquals(Map.of("stem", 3, "arts", 1, "need", 1), result.facets().get("category"));
+		assertEquals(List.of("stem", "arts", "need"), List.copyOf(result.facets().get("category").keySet()));
+		assertEquals(Map.of("under-1000", 0, "1000-5000", 1, "5000-10000", 1, "10000-25000", 0, "over-25000", 1),
+			result.facets().get("amountBand"));
+		assertEquals(Map.of("0-7-days", 1, "8-30-days", 0, "31-90-days", 1, "later", 1),
+			result.facets().get("deadline"));
+		assertEquals(Map.of("up-to-250000", 0, "up-to-500000", 2, "up-to-1000000", 0, "over-1000000", 0,
+			"no-limit", 1), result.facets().get("incomeBand"));
+	}
+
+	@Test
+	void combinesFacetsAndAmountRangeAndPagesByCursor() {
+		FacetIndex.Selection selection = selection(
+			Map.of(FacetIndex.Facet.INCOME, List.of("up-to-250000", "up-to-500000", "no-limit")), 1_000.0);
+
+		FacetIndex.Result first = index.query(selection, null, 2);
+		assertEquals(List.of(6L, 4L), ids(first.page()));
+		assertEquals(4, first.total());
+
+		FacetIndex.Result second = index.query(selection, first.nextCursor(), 2);
+		assertEquals(List.of(3L, 1L), ids(second.page()));
+		assertNull(second.nextCursor());
+	}
+
+	@Test
+	void rejectsUnknownBands() {
+		assertThrows(IllegalArgumentException.class, () ->
+			index.query(selection(Map.of(FacetIndex.Facet.DEADLINE, List.of("tomorrow")), null), null, 10));
+		assertEquals(0, index.query(selection(Map.of(FacetIndex.Facet.CATEGORY, List.of("Chess")), null), null, 10)
+			.total());
+	}
+
+	private static FacetIndex.Selection selection(Map<FacetIndex.Facet, List<String>> values, Double minAmount) {
+		return new FacetIndex.Selection(values, minAmount, null);
+	}
+
+	private ActiveScholarshipCatalog.Entry entry(long id, String category, double amount, int daysLeft,
+												 Double maxFamilyIncome, Double minPercentage) {
+		Scholarship scholarship = new Scholarship();
+		scholarship.setId(id);
+		scholarship.setCategory(category);
+		scholarship.setAmount(amount);
+		scholarship.setApplicationDeadline(today.plusDays(daysLeft));
+		scholarship.setMaxFamilyIncome(maxFamilyIncome);
+		scholarship.setMinPercentage(minPercentage);
+		scholarship.setCreatedAt(LocalDateTime.of(2026, 1, 1, 12, 0).plusMinutes(id));
+		return new ActiveScholarshipCatalog.Entry(scholarship, new byte[0], id);
+	}
+
+	private static List<Long> ids(List<ActiveScholarshipCatalog.Entry> entries) {
+		List<Long> ids = new ArrayList<>();
+		entries.forEach(entry -> ids.add(entry.scholarship().getId()));
+		return ids;
+	}
+}
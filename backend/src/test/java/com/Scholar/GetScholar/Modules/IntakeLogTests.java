@@ -0,0 +1,91 @@
+package com.Scholar.GetScholar.Modules;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IntakeLogTests {
+
+	private static final int SEGMENT_BYTES = 256;
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void reopenReplaysEverythingAfterTheCheckpoint() throws Exception {
+		try (IntakeLog log = new IntakeLog(directory, SEGMENT_BYTES, true)) {
+			for (int i = 1; i <= 10; i++) {
+				assertEquals(i, log.append(payload(i)));
+			}
+			log.checkpoint(4);
+		}
+
+		try (IntakeLog log = new IntakeLog(directory, SEGMENT_BYTES, true)) {
+			List<IntakeLog.Record> records = log.replay(log.checkpoint());
+			assertEquals(List.of(5L, 6L, 7L, 8L, 9L, 10L), records.stream().map(IntakeLog.Record::sequence).toList());
+			assertEquals("application-5", new String(records.get(0).payload(), StandardCharsets.UTF_8));
+			assertEquals(11, log.append(payload(11)));
+		}
+	}
+
+	@Test
+	void checkpointDeletesDrainedSegments() throws Exception {
+		try (IntakeLog log = new IntakeLog(directory, SEGMENT_BYTES, true)) {
+			for (int i = 1; i <= 20; i++) {
+				log.append(payload(i));
+			}
+			long before = segmentCount();
+			log.checkpoint(20);
+			assertEquals(1, segmentCount());
+			assertTrue(before > 1);
+		}
+	}
+
+	@Test
+	void tornTailIsDiscardedAndOverwritten() throws Exception {
+		try (IntakeLog log = new IntakeLog(directory, 4096, true)) {
+			for (int i = 1; i <= 3; i++) {
+				log.append(payload(i));
+			}
+		}
+
+		// Corrupt one payload byte of the last record, as a crash mid-write would
+		Path segment;
+		try (Stream<Path> files = Files.list(directory)) {
+			segment = files.filter(path -> path.toString().endsWith(".wal")).findFirst().orElseThrow();
+		}
+		int recordBytes = 16 + payload(1).length;
+		try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.wrap(new byte[] {'X'}), 2L * recordBytes + 16);
+		}
+
+		try (IntakeLog log = new IntakeLog(directory, 4096, true)) {
+			assertEquals(List.of(1L, 2L), log.replay(0).stream().map(IntakeLog.Record::sequence).toList());
+			assertEquals(3, log.append(payload(3)));
+		}
+		try (IntakeLog log = new IntakeLog(directory, 4096, true)) {
+			assertEquals(3, log.replay(0).size());
+		}
+	}
+
+	private long segmentCount() throws Exception {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(path -> path.toString().endsWith(".wal")).count();
+		}
+	}
+
+	private static byte[] payload(int i) {
+		return ("application-" + i).getBytes(StandardCharsets.UTF_8);
+	}
+}
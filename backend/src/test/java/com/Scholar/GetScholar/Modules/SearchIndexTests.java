@@ -0,0 +1,100 @@
+package com.Scholar.GetScholar.Modules;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.Scholar.GetScholar.Database.Scholarship;
+
+class SearchIndexTests {
+
+	@Test
+	void ranksTitleMatchesFirstAndRequiresEveryTerm() {
+		SearchIndex index = SearchIndex.build(snapshot(List.of(
+			entry(1, "Community Service Award", "For students in engineering programs", "Service"),
+			entry(2, "Women in Engineering Scholarship", "Supports undergraduate study", "STEM"),
+			entry(3, "Arts Grant", "Painting and sculpture", "Arts"))));
+
+		assertEquals(List.of(2L, 1L), ids(index.search("engineering ", 10)));
+		assertEquals(List.of(2L), ids(index.search("women engineering ", 10)));
+		assertEquals(List.of(), ids(index.search("women painting ", 10)));
+		assertEquals(List.of(), ids(index.search("the ", 10)));
+	}
+
+	@Test
+	void lastTermIsAPrefixWhileTyping() {
+		SearchIndex index = SearchIndex.build(snapshot(List.of(
+			entry(1, "Engineering Excellence", null, "STEM"),
+			entry(2, "Bourse d'Études Supérieures", "Étudiants en médecine", "Merit"))));
+
+		assertEquals(List.of(1L), ids(index.search("Engin", 10)));
+		assertEquals(List.of(), ids(index.search("engin ", 10)));
+		assertEquals(List.of(2L), ids(index.search("etudiants medec", 10)));
+	}
+
+	@Test
+	void updateReindexesOnlyChangedEntries() {
+		List<ActiveScholarshipCatalog.Entry> entries = new ArrayList<>();
+		for (int id = 1; id <= 50; id++) {
+			entries.add(entry(id, "Merit Scholarship " + id, "General support", "Merit"));
+		}
+		SearchIndex index = SearchIndex.build(snapshot(entries));
+
+		List<ActiveScholarshipCatalog.Entry> next = new ArrayList<>(entries);
+		next.set(9, entry(10, "Robotics Scholarship", "General support", "STEM"));
+		next.remove(19);
+		next.add(entry(51, "Robotics Travel Grant", null, "STEM"));
+		SearchIndex updated = index.update(snapshot(next));
+
+		assertEquals(2, updated.deltaSize());
+		assertEquals(50, updated.size());
+		assertEquals(List.of(), ids(updated.search("merit scholarship 10 ", 10)));
+		assertEquals(List.of(), ids(updated.search("20 ", 10)));
+		List<Long> robotics = ids(updated.search("robot", 10));
+		assertEquals(2, robotics.size());
+		assertTrue(robotics.containsAll(List.of(10L, 51L)));
+		assertEquals(48, updated.search("merit", 100).size());
+	}
+
+	@Test
+	void fullCatalogReloadWithSameContentKeepsTheBaseSegment() {
+		List<ActiveScholarshipCatalog.Entry> entries = new ArrayList<>();
+		List<ActiveScholarshipCatalog.Entry> reloaded = new ArrayList<>();
+		for (int id = 1; id <= 50; id++) {
+			entries.add(entry(id, "Merit Scholarship " + id, "General support", "Merit"));
+			reloaded.add(entry(id, "Merit Scholarship " + id, "General support", "Merit"));
+		}
+		SearchIndex updated = SearchIndex.build(snapshot(entries)).update(snapshot(reloaded));
+
+		assertEquals(0, updated.deltaSize());
+		assertEquals(50, updated.size());
+		assertEquals(List.of(7L), ids(updated.search("scholarship 7 ", 10)));
+	}
+
+	private static ActiveScholarshipCatalog.Snapshot snapshot(List<ActiveScholarshipCatalog.Entry> entries) {
+		return new ActiveScholarshipCatalog.Snapshot(LocalDate.now(), List.copyOf(entries), 0);
+	}
+
+	private static ActiveScholarshipCatalog.Entry entry(long id, String title, String description, String category) {
+		Scholarship scholarship = new Scholarship();
+		scholarship.setId(id);
+		scholarship.setTitle(title);
+		scholarship.setDescription(description);
+		scholarship.setCategory(category);
+		scholarship.setOrganizationName("Foundation");
+		scholarship.setCreatedAt(LocalDateTime.of(2026, 1, 1, 12, 0).plusMinutes(id));
+		// Stands in for the catalog's CRC of the serialized scholarship
+		long contentHash = (title + description + category).hashCode();
+		return new ActiveScholarshipCatalog.Entry(scholarship, new byte[0], (contentHash << 32) | id);
+	}
+
+	private static List<Long> ids(List<ActiveScholarshipCatalog.Entry> entries) {
+		return entries.stream().map(entry -> entry.scholarship().getId()).toList();
+	}
+}
@@ -0,0 +1,148 @@
+package com.Scholar.GetScholar.Modules;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.Scholar.GetScholar.ScholarshipApplicationRepository;
+import com.Scholar.GetScholar.ScholarshipRepository;
+import com.Scholar.GetScholar.SharedPostgres;
+import com.Scholar.GetScholar.Database.Scholarship;
+import com.Scholar.GetScholar.Database.ScholarshipApplication;
+
+// 64 reviewers approving applications for one scholarship on a real Postgres,
+// where the conditional UPDATE actually contends on a single row.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ApplicationService.class, SlotReservationService.class, ApplicationStatsService.class,
+	ScholarshipService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SlotReservationLoadTests extends SharedPostgres {
+
+	private static final int REVIEWERS = 64;
+	private static final int APPLICATIONS = 2000;
+	private static final int SLOTS = 500;
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) throws Exception {
+		registry.add("spring.datasource.hikari.maximum-pool-size", () -> REVIEWERS);
+		registry.add("spring.jpa.show-sql", () -> "false");
+	}
+
+	@Autowired
+	private ApplicationService applicationService;
+
+	@Autowired
+	private ScholarshipService scholarshipService;
+
+	@Autowired
+	private ScholarshipRepository scholarshipRepository;
+
+	@Autowired
+	private ScholarshipApplicationRepository applicationRepository;
+
+	@Test
+	void concurrentApprovalsNeverOversubscribeSlots() throws Exception {
+		Scholarship scholarship = ApplicationServiceTests.TestData.scholarship("org@example.com");
+		scholarship.setAvailableSlots(SLOTS);
+		Long scholarshipId = scholarshipRepository.save(scholarship).getId();
+
+		List<ScholarshipApplication> applications = new ArrayList<>();
+		for (int i = 0; i < APPLICATIONS; i++) {
+			applications.add(ApplicationServiceTests.TestData.application(scholarshipId, "student" + i + "@example.com"));
+		}
+		ConcurrentLinkedQueue<Long> pending = new ConcurrentLinkedQueue<>();
+		applicationRepository.saveAll(applications).forEach(application -> pending.add(application.getId()));
+
+		AtomicInteger approved = new AtomicInteger();
+		AtomicInteger exhausted = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(REVIEWERS);
+		List<Future<?>> reviewers = new ArrayList<>();
+		for (int r = 0; r < REVIEWERS; r++) {
+			reviewers.add(executor.submit(() -> {
+				start.await();
+				Long id;
+				while ((id = pending.poll()) != null) {
+					try {
+						applicationService.reviewApplication(id, "APPROVED", null, "org@example.com");
+						approved.incrementAndGet();
+					} catch (SlotsExhaustedException e) {
+						exhausted.incrementAndGet();
+					}
+				}
+				return null;
+			}));
+		}
+
+		start.countDown();
+		for (Future<?> reviewer : reviewers) {
+			reviewer.get();
+		}
+		executor.shutdown();
+
+		assertEquals(SLOTS, approved.get());
+		assertEquals(APPLICATIONS - SLOTS, exhausted.get());
+		assertEquals(0, scholarshipRepository.findById(scholarshipId).orElseThrow().getAvailableSlots());
+		assertEquals(SLOTS, applicationRepository.findByScholarshipIdOrderByCreatedAtDesc(scholarshipId).stream()
+			.filter(application -> "APPROVED".equals(application.getStatus()))
+			.count());
+	}
+
+	@Test
+	void unapprovingReturnsTheSlot() {
+		Scholarship scholarship = ApplicationServiceTests.TestData.scholarship("org@example.com");
+		scholarship.setAvailableSlots(1);
+		Long scholarshipId = scholarshipRepository.save(scholarship).getId();
+		Long first = applicationRepository.save(
+			ApplicationServiceTests.TestData.application(scholarshipId, "first@example.com")).getId();
+		Long second = applicationRepository.save(
+			ApplicationServiceTests.TestData.application(scholarshipId, "second@example.com")).getId();
+
+		applicationService.reviewApplication(first, "APPROVED", null, "org@example.com");
+		applicationService.reviewApplication(first, "REJECTED", null, "org@example.com");
+		applicationService.reviewApplication(second, "APPROVED", null, "org@example.com");
+
+		assertEquals(0, scholarshipRepository.findById(scholarshipId).orElseThrow().getAvailableSlots());
+	}
+
+	@Test
+	void ownerEditsKeepSlotsThatReviewsTook() {
+		Scholarship scholarship = ApplicationServiceTests.TestData.scholarship("org@example.com");
+		scholarship.setAvailableSlots(3);
+		Long scholarshipId = scholarshipRepository.save(scholarship).getId();
+		Scholarship stale = scholarshipService.getScholarshipById(scholarshipId).orElseThrow();
+		Long applicationId = applicationRepository.save(
+			ApplicationServiceTests.TestData.application(scholarshipId, "edited@example.com")).getId();
+
+		applicationService.reviewApplication(applicationId, "APPROVED", null, "org@example.com");
+		stale.setTitle("Renamed");
+		stale.setAvailableSlots(3);
+		assertEquals(2, scholarshipService.updateScholarship(stale).getAvailableSlots());
+		assertEquals(2, scholarshipRepository.findById(scholarshipId).orElseThrow().getAvailableSlots());
+
+		assertEquals(4, scholarshipService.changeSlots(scholarshipId, 2).orElseThrow().getAvailableSlots());
+		assertEquals(0, scholarshipService.changeSlots(scholarshipId, -10).orElseThrow().getAvailableSlots());
+		assertNull(scholarshipService.setSlots(scholarshipId, null).getAvailableSlots());
+		assertTrue(scholarshipService.changeSlots(scholarshipId, 1).isEmpty());
+	}
+}
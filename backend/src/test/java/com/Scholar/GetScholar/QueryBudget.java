@@ -0,0 +1,39 @@
+package com.Scholar.GetScholar;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.Scholar.GetScholar.Modules.SqlProfilingFilter;
+
+// Fails the test when a call (typically a MockMvc request, which runs on the
+// test thread) executes more SQL statements than its budget. The failure lists
+// every statement fingerprint with its count, so an N+1 shows up as one
+// fingerprint repeated per row.
+public final class QueryBudget {
+
+	public interface Call {
+		void run() throws Exception;
+	}
+
+	private QueryBudget() {
+	}
+
+	public static SqlProfilingFilter.Profile assertWithin(int maxQueries, Call call) throws Exception {
+		SqlProfilingFilter.Profile profile = SqlProfilingFilter.begin();
+		try {
+			call.run();
+		} finally {
+			SqlProfilingFilter.end(profile);
+		}
+		if (profile.queries() > maxQueries) {
+			fail("Expected at most " + maxQueries + " statements but ran " + profile.queries() + ":\n"
+				+ profile.counts().entrySet().stream()
+					.sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+					.map(entry -> "  " + entry.getValue() + "x " + entry.getKey())
+					.collect(Collectors.joining("\n")));
+		}
+		return profile;
+	}
+}
@@ -0,0 +1,111 @@
+package com.Scholar.GetScholar;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.Scholar.GetScholar.Database.Scholarship;
+import com.Scholar.GetScholar.Modules.ReadReplicaConfiguration;
+import com.Scholar.GetScholar.Modules.ReadReplicaDataSource;
+import com.Scholar.GetScholar.Modules.ScholarshipService;
+
+// Two unrelated Postgres databases stand in for a primary and its replica. Nothing
+// replicates, so a row written through the application is only visible to a read
+// that was routed to the primary. The replica reports its lag from a table the
+// test controls.
+@SpringBootTest
+class ReadReplicaRoutingTests extends SharedPostgres {
+
+	// The primary is the database SharedPostgres gives the context
+	private static String replica;
+
+	@DynamicPropertySource
+	static void datasources(DynamicPropertyRegistry registry) throws Exception {
+		if (replica == null) {
+			replica = createDatabase();
+			Flyway.configure().dataSource(dataSource(replica)).load().migrate();
+			replicaJdbc().execute("CREATE TABLE replica_lag (seconds double precision NOT NULL)");
+			replicaJdbc().update("INSERT INTO replica_lag VALUES (0)");
+		}
+		registry.add("datasource.replicas.enabled", () -> "true");
+		registry.add("datasource.replicas.urls", () -> jdbcUrl(replica));
+		registry.add("datasource.replicas.lag-query", () -> "SELECT seconds FROM replica_lag");
+		registry.add("datasource.replicas.lag-check-ms", () -> "3600000");
+		registry.add("datasource.replicas.read-your-writes-ms", () -> "60000");
+	}
+
+	@Autowired
+	private ScholarshipService scholarshipService;
+
+	@Autowired
+	private ReadReplicaConfiguration readReplicas;
+
+	@AfterEach
+	void reset() {
+		SecurityContextHolder.clearContext();
+		replicaJdbc().update("UPDATE replica_lag SET seconds = 0");
+		readReplicas.checkReplicaLag();
+	}
+
+	@Test
+	void readOnlyTransactionsGoToTheReplica() {
+		Long id = create("replica-owner@example.com");
+
+		assertFalse(scholarshipService.getScholarshipById(id).isPresent());
+		assertTrue(ReadReplicaDataSource.onPrimary(() -> scholarshipService.getScholarshipById(id)).isPresent());
+	}
+
+	@Test
+	void usersReadTheirOwnWritesFromThePrimary() {
+		SecurityContextHolder.getContext().setAuthentication(
+			new UsernamePasswordAuthenticationToken("writer@example.com", null, List.of()));
+		Long id = create("writer@example.com");
+		assertTrue(scholarshipService.getScholarshipById(id).isPresent());
+
+		// Someone else, who has not written anything, still reads from the replica
+		SecurityContextHolder.getContext().setAuthentication(
+			new UsernamePasswordAuthenticationToken("reader@example.com", null, List.of()));
+		assertFalse(scholarshipService.getScholarshipById(id).isPresent());
+	}
+
+	@Test
+	void replicaOverTheLagBudgetIsSkipped() {
+		Long id = create("lag-owner@example.com");
+
+		replicaJdbc().update("UPDATE replica_lag SET seconds = 30");
+		readReplicas.checkReplicaLag();
+		assertTrue(scholarshipService.getScholarshipById(id).isPresent());
+
+		replicaJdbc().update("UPDATE replica_lag SET seconds = 0.2");
+		readReplicas.checkReplicaLag();
+		assertFalse(scholarshipService.getScholarshipById(id).isPresent());
+	}
+
+	private Long create(String owner) {
+		Scholarship scholarship = new Scholarship();
+		scholarship.setTitle("Replica Award");
+		scholarship.setOrganizationName("Replica Foundation");
+		scholarship.setAmount(500.0);
+		scholarship.setApplicationDeadline(LocalDate.now().plusDays(30));
+		scholarship.setStartDate(LocalDate.now().plusDays(60));
+		scholarship.setCreatedBy(owner);
+		return scholarshipService.createScholarship(scholarship).getId();
+	}
+
+	private static JdbcTemplate replicaJdbc() {
+		return new JdbcTemplate(dataSource(replica));
+	}
+}
@@ -0,0 +1,165 @@
+package com.Scholar.GetScholar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.Scholar.GetScholar.Database.UserDetail;
+import com.Scholar.GetScholar.Security.JwtUtil;
+
+// Throughput and p99 of a JDBC-backed endpoint under 2000 concurrent clients,
+// with Tomcat on platform threads and on virtual threads. Slow, so opt-in:
+//   mvn test -Dtest=RequestExecutionLoadTests -Dloadtest=true
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class RequestExecutionLoadTests extends SharedPostgres {
+
+	private static final int CLIENTS = 2000;
+	private static final Duration WARMUP = Duration.ofSeconds(5);
+	private static final Duration MEASURE = Duration.ofSeconds(15);
+	private static final String APPLICANT = "load@example.com";
+
+	@Nested
+	@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = {"spring.threads.virtual.enabled=false", "web.admission-timeout-ms=30000"})
+	class PlatformThreads {
+
+		@LocalServerPort
+		private int port;
+
+		@Autowired
+		private JwtUtil jwtUtil;
+
+		@Autowired
+		private JdbcTemplate jdbcTemplate;
+
+		@Test
+		void myApplications() throws Exception {
+			report("platform", run(port, jwtUtil, jdbcTemplate));
+		}
+	}
+
+	@Nested
+	@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = {"spring.threads.virtual.enabled=true", "web.max-concurrent-requests=100",
+			"web.admission-timeout-ms=30000"})
+	class VirtualThreads {
+
+		@LocalServerPort
+		private int port;
+
+		@Autowired
+		private JwtUtil jwtUtil;
+
+		@Autowired
+		private JdbcTemplate jdbcTemplate;
+
+		@Test
+		void myApplications() throws Exception {
+			report("virtual", run(port, jwtUtil, jdbcTemplate));
+		}
+	}
+
+	private record Result(long requests, long errors, long[] latenciesNanos) {}
+
+	private static Result run(int port, JwtUtil jwtUtil, JdbcTemplate jdbcTemplate) throws Exception {
+		seed(jdbcTemplate);
+		UserDetail user = new UserDetail();
+		user.setId(1);
+		user.setName("Load");
+		user.setEmail(APPLICANT);
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/applications/my-applications?limit=20"))
+			.header("Authorization", "Bearer " + jwtUtil.generateToken(user))
+			.timeout(Duration.ofSeconds(30))
+			.build();
+
+		// Closed loop: each client sends its next request when the previous one
+		// answers. Driven asynchronously from one thread so that the load
+		// generator does not compete with the server for the CPU.
+		AtomicLong errors = new AtomicLong();
+		ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+		CountDownLatch finished = new CountDownLatch(CLIENTS);
+		long measureFrom = System.nanoTime() + WARMUP.toNanos();
+		long stopAt = measureFrom + MEASURE.toNanos();
+		ExecutorService callbacks = Executors.newSingleThreadExecutor();
+		try (HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(callbacks).build()) {
+			for (int c = 0; c < CLIENTS; c++) {
+				loop(client, request, measureFrom, stopAt, errors, latencies, finished);
+			}
+			finished.await();
+		} finally {
+			callbacks.shutdown();
+		}
+		long[] all = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+		return new Result(all.length, errors.get(), all);
+	}
+
+	private static void loop(HttpClient client, HttpRequest request, long measureFrom, long stopAt,
+							 AtomicLong errors, ConcurrentLinkedQueue<Long> latencies, CountDownLatch finished) {
+		long start = System.nanoTime();
+		if (start >= stopAt) {
+			finished.countDown();
+			return;
+		}
+		client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+			long end = System.nanoTime();
+			if (start >= measureFrom && end <= stopAt) {
+				if (failure != null || response.statusCode() != 200) {
+					errors.incrementAndGet();
+				}
+				latencies.add(end - start);
+			}
+			loop(client, request, measureFrom, stopAt, errors, latencies, finished);
+		});
+	}
+
+	private static void seed(JdbcTemplate jdbcTemplate) {
+		if (jdbcTemplate.queryForObject("SELECT count(*) FROM scholarships", Long.class) > 0) {
+			return;
+		}
+		jdbcTemplate.execute("""
+			INSERT INTO scholarships (title, organization_name, amount, application_deadline, start_date,
+			                          status, created_by, created_at)
+			SELECT 'Scholarship ' || g, 'Org', 1000 + g, current_date + 30, current_date, 'ACTIVE',
+			       'org@example.com', now() - (g || ' minutes')::interval
+			FROM generate_series(1, 40) g
+			""");
+		jdbcTemplate.execute("""
+			INSERT INTO scholarship_applications (scholarship_id, full_name, date_of_birth, gender, email,
+			    phone_number, address, nationality, current_institution, course_name, year_of_study,
+			    academic_percentage, family_income, reason_for_applying, status, applicant_username, created_at)
+			SELECT s.id, 'Load Student', date '2003-01-01', 'F', 'load@example.com', '5550100', 'Campus', 'IN',
+			       'State University', 'Physics', '2', 80, 200000, 'Tuition', 'SUBMITTED', 'load@example.com',
+			       now() - (s.id || ' seconds')::interval
+			FROM scholarships s
+			""");
+	}
+
+	private static void report(String mode, Result result) {
+		long[] latencies = result.latenciesNanos();
+		System.out.printf("%s threads, %d clients: %.0f req/s, p50 %.1f ms, p99 %.1f ms, %d errors%n",
+			mode, CLIENTS, result.requests() / (double) MEASURE.toSeconds(),
+			percentile(latencies, 0.50) / 1e6, percentile(latencies, 0.99) / 1e6, result.errors());
+		assertEquals(0, result.errors());
+	}
+
+	private static long percentile(long[] sorted, double p) {
+		return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)];
+	}
+}
@@ -0,0 +1,99 @@
+package com.Scholar.GetScholar;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+// Runs the Flyway migrations against a real (embedded) Postgres, loads a
+// realistic volume of rows and checks that the SQL behind each repository
+// list/lookup path is planned without a sequential scan.
+class SchemaIndexPlanTests extends SharedPostgres {
+
+	private static DataSource dataSource;
+
+	@BeforeAll
+	static void migrateAndLoad() throws Exception {
+		dataSource = dataSource(createDatabase());
+		Flyway.configure().dataSource(dataSource).load().migrate();
+
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			// 20k scholarships from 400 organizations; ~5% still open
+			statement.execute("""
+				INSERT INTO scholarships (title, organization_name, amount, application_deadline, start_date,
+				                          status, created_by, created_at)
+				SELECT 'Scholarship ' || g, 'Org ' || (g % 400), 1000 + g,
+				       CASE WHEN g % 20 = 0 THEN current_date + 30 ELSE current_date - (g % 700) END,
+				       current_date, CASE WHEN g % 20 = 0 THEN 'ACTIVE' ELSE 'CLOSED' END,
+				       'org' || (g % 400) || '@example.com', now() - (g || ' minutes')::interval
+				FROM generate_series(1, 20000) g
+				""");
+			// 200k applications from 40k applicants, each applying to a scholarship at most once
+			statement.execute("""
+				INSERT INTO scholarship_applications (scholarship_id, full_name, date_of_birth, gender, email,
+				    phone_number, address, nationality, current_institution, course_name, year_of_study,
+				    academic_percentage, family_income, reason_for_applying, status, applicant_username, created_at)
+				SELECT 1 + (g / 40000 + g) % 20000, 'Student ' || g, date '2003-01-01', 'F',
+				       'student' || (g % 40000) || '@example.com', '5550100', 'Campus', 'IN', 'State University',
+				       'Physics', '2', 50 + (g % 50), 100000 + g,
+				       'Tuition', (ARRAY['SUBMITTED','APPROVED','REJECTED'])[1 + g % 3],
+				       'student' || (g % 40000) || '@example.com', now() - (g || ' seconds')::interval
+				FROM generate_series(1, 200000) g
+				""");
+			statement.execute("ANALYZE");
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		// getActiveScholarships(cursor, limit) first page and next page
+		"SELECT * FROM scholarships WHERE status = 'ACTIVE' AND application_deadline > current_date "
+			+ "ORDER BY created_at DESC, id DESC LIMIT 51",
+		"SELECT * FROM scholarships WHERE status = 'ACTIVE' AND application_deadline > current_date "
+			+ "AND (created_at < now() - interval '1 day' OR (created_at = now() - interval '1 day' AND id < 5000)) "
+			+ "ORDER BY created_at DESC, id DESC LIMIT 51",
+		// ActiveScholarshipCatalog.reload
+		"SELECT * FROM scholarships WHERE status = 'ACTIVE' AND application_deadline > current_date "
+			+ "ORDER BY created_at DESC",
+		// getScholarshipsByCreator(cursor, limit)
+		"SELECT * FROM scholarships WHERE created_by = 'org7@example.com' ORDER BY created_at DESC, id DESC LIMIT 51",
+		// getApplicationSummariesByUser (my-applications)
+		"SELECT a.id, a.scholarship_id, a.full_name, s.title, s.organization_name, s.amount "
+			+ "FROM scholarship_applications a LEFT JOIN scholarships s ON s.id = a.scholarship_id "
+			+ "WHERE a.applicant_username = 'student42@example.com' ORDER BY a.created_at DESC, a.id DESC LIMIT 51",
+		// getApplicationsForScholarship(cursor, limit)
+		"SELECT * FROM scholarship_applications WHERE scholarship_id = 1234 ORDER BY created_at DESC, id DESC LIMIT 51",
+		// getApplicationSummariesForOrganization (org dashboard)
+		"SELECT a.id, a.scholarship_id, a.full_name, a.email, a.status, a.created_at, s.title, s.amount "
+			+ "FROM scholarship_applications a JOIN scholarships s ON s.id = a.scholarship_id "
+			+ "WHERE s.created_by = 'org7@example.com' ORDER BY a.created_at DESC, a.id DESC LIMIT 51",
+		// hasUserApplied (served by the uq_applications_applicant_scholarship index)
+		"SELECT 1 FROM scholarship_applications WHERE applicant_username = 'student42@example.com' "
+			+ "AND scholarship_id = 43 LIMIT 1"
+	})
+	void repositoryPathAvoidsSequentialScans(String sql) throws Exception {
+		String plan = explain(sql);
+		assertFalse(plan.contains("Seq Scan on scholarships"), plan);
+		assertFalse(plan.contains("Seq Scan on scholarship_applications"), plan);
+	}
+
+	private static String explain(String sql) throws Exception {
+		StringBuilder plan = new StringBuilder();
+		try (Connection connection = dataSource.getConnection();
+			 Statement statement = connection.createStatement();
+			 ResultSet rows = statement.executeQuery("EXPLAIN " + sql)) {
+			while (rows.next()) {
+				plan.append(rows.getString(1)).append('\n');
+			}
+		}
+		return plan.toString();
+	}
+}
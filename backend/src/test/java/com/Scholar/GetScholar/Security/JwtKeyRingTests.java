@@ -0,0 +1,163 @@
+package com.Scholar.GetScholar.Security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+class JwtKeyRingTests {
+
+	private static final String KEY_A = hmac("2026-09", "a", 0);
+	private static final String KEY_B = hmac("2026-10", "b", 0);
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void instancesSharingTheRingVerifyEachOthersTokens() {
+		String jwks = jwks(KEY_A);
+		JwtUtil first = new JwtUtil(100, JwtKeyRing.of(jwks));
+		JwtUtil second = new JwtUtil(100, JwtKeyRing.of(jwks));
+
+		String token = first.generateToken("student@example.com");
+
+		assertEquals("2026-09", Jwts.parserBuilder().build().parse(unsigned(token)).getHeader().get("kid"));
+		assertEquals("student@example.com", second.verifyToken(token).getSubject());
+		assertThrows(JwtException.class, () -> new JwtUtil(100).verifyToken(token));
+	}
+
+	@Test
+	void rotationSignsWithTheNewKeyAndRetiringAKeyRejectsItsTokens() throws Exception {
+		long future = Instant.now().plusSeconds(3600).getEpochSecond();
+		Path file = dir.resolve("jwks.json");
+		Files.writeString(file, jwks(KEY_A, hmac("2026-10", "b", future)));
+		JwtKeyRing ring = new JwtKeyRing();
+		ReflectionTestUtils.setField(ring, "keyFile", file.toString());
+		ring.load();
+		JwtUtil jwtUtil = new JwtUtil(100, ring);
+
+		// The next key is already trusted but does not sign before its nbf
+		assertEquals("2026-09", ring.signingKey().kid());
+		String old = jwtUtil.generateToken("student@example.com");
+		jwtUtil.verifyToken(old);
+
+		rewrite(file, jwks(KEY_A, KEY_B));
+		ring.reload();
+		assertEquals("2026-10", ring.signingKey().kid());
+		jwtUtil.verifyToken(jwtUtil.generateToken("student@example.com"));
+		jwtUtil.verifyToken(old);
+
+		rewrite(file, jwks(KEY_B));
+		ring.reload();
+		assertThrows(JwtException.class, () -> jwtUtil.verifyToken(old));
+
+		// A broken file keeps the last good ring
+		rewrite(file, "{\"keys\": [");
+		ring.reload();
+		assertEquals("2026-10", ring.signingKey().kid());
+	}
+
+	@Test
+	void ecKeysSignAndOnlyTheirPublicHalfIsPublished() throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+		generator.initialize(new ECGenParameterSpec("secp256r1"));
+		KeyPair pair = generator.generateKeyPair();
+		ECPublicKey publicKey = (ECPublicKey) pair.getPublic();
+		String x = base64(publicKey.getW().getAffineX());
+		String y = base64(publicKey.getW().getAffineY());
+		String d = base64(((ECPrivateKey) pair.getPrivate()).getS());
+		String signer = "{\"kid\":\"edge-1\",\"kty\":\"EC\",\"alg\":\"ES256\",\"crv\":\"P-256\",\"x\":\"" + x
+			+ "\",\"y\":\"" + y + "\",\"d\":\"" + d + "\"}";
+
+		JwtKeyRing ring = JwtKeyRing.of(jwks(KEY_A, signer));
+		JwtUtil jwtUtil = new JwtUtil(100, ring);
+		String token = jwtUtil.generateToken("student@example.com");
+
+		JsonNode published = ring.publicJwks().get("keys");
+		assertEquals(1, published.size());
+		assertEquals("edge-1", published.get(0).get("kid").asText());
+		assertFalse(published.get(0).has("d"));
+
+		// A verifier holding only the published key accepts the token
+		String verifier = published.get(0).toString();
+		assertEquals("student@example.com", new JwtUtil(100, JwtKeyRing.of(jwks(KEY_A, verifier)))
+			.verifyToken(token).getSubject());
+	}
+
+	@Test
+	void tokensNamingAnUnknownKeyOrAnotherAlgorithmAreRejected() {
+		JwtKeyRing ring = JwtKeyRing.of(jwks(KEY_A));
+		JwtUtil jwtUtil = new JwtUtil(100, ring);
+		JwtKeyRing.RingKey key = ring.signingKey();
+
+		String unknownKid = Jwts.builder().setHeaderParam("kid", "nope").setSubject("student@example.com")
+			.signWith(key.signingKey(), SignatureAlgorithm.HS256).compact();
+		String otherAlg = Jwts.builder().setHeaderParam("kid", key.kid()).setSubject("student@example.com")
+			.signWith(key.signingKey(), SignatureAlgorithm.HS512).compact();
+
+		assertThrows(JwtException.class, () -> jwtUtil.verifyToken(unknownKid));
+		assertTrue(assertThrows(JwtException.class, () -> jwtUtil.verifyToken(otherAlg))
+			.getMessage().contains(key.kid()));
+	}
+
+	@Test
+	void keySetsWithoutASigningKeyAreRefused() {
+		assertThrows(IllegalArgumentException.class, () -> JwtKeyRing.of("{\"keys\": []}"));
+		assertThrows(IllegalArgumentException.class,
+			() -> JwtKeyRing.of(jwks("{\"kid\":\"short\",\"kty\":\"oct\",\"alg\":\"HS256\",\"k\":\"c2hvcnQ\"}")));
+	}
+
+	// 64-byte secret, enough for every HS algorithm
+	private static String hmac(String kid, String seed, long notBefore) {
+		byte[] secret = new byte[64];
+		Arrays.fill(secret, (byte) seed.charAt(0));
+		return "{\"kid\":\"" + kid + "\",\"kty\":\"oct\",\"alg\":\"HS256\",\"nbf\":" + notBefore + ",\"k\":\""
+			+ Base64.getUrlEncoder().withoutPadding().encodeToString(secret) + "\"}";
+	}
+
+	private static String jwks(String... keys) {
+		return "{\"keys\": [" + String.join(",", keys) + "]}";
+	}
+
+	private static String base64(BigInteger value) {
+		byte[] bytes = value.toByteArray();
+		byte[] fixed = new byte[32];
+		int length = Math.min(bytes.length, 32);
+		System.arraycopy(bytes, bytes.length - length, fixed, 32 - length, length);
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+	}
+
+	private static String unsigned(String token) {
+		return token.substring(0, token.lastIndexOf('.') + 1);
+	}
+
+	// Reloads compare modification times, which can repeat within a test
+	private static void rewrite(Path file, String content) throws Exception {
+		FileTime previous = Files.getLastModifiedTime(file);
+		Files.writeString(file, content);
+		Files.setLastModifiedTime(file, FileTime.fromMillis(previous.toMillis() + 1000));
+	}
+}
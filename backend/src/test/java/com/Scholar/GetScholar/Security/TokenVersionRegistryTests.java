@@ -0,0 +1,62 @@
+package com.Scholar.GetScholar.Security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.Scholar.GetScholar.UserRepo;
+
+class TokenVersionRegistryTests {
+
+	private final UserRepo userRepo = mock(UserRepo.class);
+	private final TokenVersionRegistry registry = new TokenVersionRegistry();
+
+	@BeforeEach
+	void wire() {
+		ReflectionTestUtils.setField(registry, "userRepo", userRepo);
+	}
+
+	@Test
+	void notLoadedUntilARefreshSucceeds() {
+		when(userRepo.findRevokedTokenVersions()).thenThrow(new IllegalStateException("database down"));
+		registry.refresh();
+		assertFalse(registry.isLoaded());
+	}
+
+	@Test
+	void revocationRecordedDuringARefreshSurvivesIt() {
+		when(userRepo.findRevokedTokenVersions()).thenAnswer(invocation -> {
+			// Logout-all commits after the SELECT has read the old version
+			registry.recordVersion("student@example.com", 3);
+			return List.of(view("student@example.com", 2), view("other@example.com", 1));
+		});
+		registry.refresh();
+
+		assertTrue(registry.isLoaded());
+		assertEquals(3, registry.currentVersion("student@example.com"));
+		assertEquals(1, registry.currentVersion("other@example.com"));
+		assertFalse(registry.isCurrent("student@example.com", 2));
+	}
+
+	private static UserRepo.TokenVersionView view(String email, int tokenVersion) {
+		return new UserRepo.TokenVersionView() {
+			@Override
+			public String getEmail() {
+				return email;
+			}
+
+			@Override
+			public int getTokenVersion() {
+				return tokenVersion;
+			}
+		};
+	}
+}
@@ -0,0 +1,67 @@
+package com.Scholar.GetScholar;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+// One embedded Postgres for the whole test JVM, started on first use and
+// stopped when the JVM exits. Every Spring context of a subclass gets an empty
+// database of its own on it, so test classes stay isolated without each
+// starting a server. max_connections leaves room for the pools of all cached
+// contexts plus the load tests' larger ones.
+public abstract class SharedPostgres {
+
+	private static final AtomicInteger DATABASES = new AtomicInteger();
+
+	// Holder idiom: the server starts when a test first needs it
+	private static final class Server {
+		static final EmbeddedPostgres INSTANCE = start();
+	}
+
+	@DynamicPropertySource
+	static void sharedPostgres(DynamicPropertyRegistry registry) {
+		String url = jdbcUrl(createDatabase());
+		registry.add("spring.datasource.url", () -> url);
+		registry.add("spring.datasource.username", () -> "postgres");
+		registry.add("spring.datasource.password", () -> "postgres");
+	}
+
+	// Creates an empty database and returns its name
+	public static String createDatabase() {
+		String name = "test_" + DATABASES.incrementAndGet();
+		new JdbcTemplate(Server.INSTANCE.getPostgresDatabase()).execute("CREATE DATABASE " + name);
+		return name;
+	}
+
+	public static String jdbcUrl(String database) {
+		return Server.INSTANCE.getJdbcUrl("postgres", database);
+	}
+
+	public static DataSource dataSource(String database) {
+		return Server.INSTANCE.getDatabase("postgres", database);
+	}
+
+	private static EmbeddedPostgres start() {
+		try {
+			EmbeddedPostgres postgres = EmbeddedPostgres.builder().setServerConfig("max_connections", "300").start();
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+				try {
+					postgres.close();
+				} catch (IOException e) {
+					// The JVM is exiting; the data directory is temporary anyway
+				}
+			}, "shared-postgres-shutdown"));
+			return postgres;
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not start the embedded Postgres", e);
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.Scholar.GetScholar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Register, log in and call an authenticated endpoint, then check that the
+// unauthenticated Prometheus scrape carries each timer as a histogram.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability(tracing = false)
+class TelemetryTests extends SharedPostgres {
+
+	@LocalServerPort
+	private int port;
+
+	private final HttpClient client = HttpClient.newHttpClient();
+
+	@Test
+	void prometheusScrapeExposesLatencyHistograms() throws Exception {
+		assertEquals(200, post("/auth/register", "{\"name\":\"Metrics\",\"email\":\"metrics@example.com\",\"password\":\"secret-pass\"}").statusCode());
+		HttpResponse<String> login = post("/auth/login", "{\"email\":\"metrics@example.com\",\"password\":\"secret-pass\"}");
+		assertEquals(200, login.statusCode());
+		String token = new ObjectMapper().readTree(login.body()).get("token").asText();
+
+		HttpResponse<String> mine = client.send(HttpRequest.newBuilder(uri("/api/scholarships/my-scholarships"))
+			.header("Authorization", "Bearer " + token).build(), HttpResponse.BodyHandlers.ofString());
+		assertEquals(200, mine.statusCode());
+
+		HttpResponse<String> scrape = client.send(HttpRequest.newBuilder(uri("/actuator/prometheus")).build(),
+			HttpResponse.BodyHandlers.ofString());
+		assertEquals(200, scrape.statusCode());
+		List<String> lines = scrape.body().lines().toList();
+		assertHasLine(lines, "http_server_requests_seconds_bucket{", "uri=\"/api/scholarships/my-scholarships\"");
+		assertHasLine(lines, "http_server_requests_seconds_bucket{", "uri=\"/auth/login\"");
+		assertHasLine(lines, "spring_data_repository_invocations_seconds_bucket{", "repository=\"ScholarshipRepository\"");
+		assertHasLine(lines, "spring_data_repository_invocations_seconds_bucket{", "repository=\"UserRepo\"");
+		assertHasLine(lines, "jwt_verify_seconds_bucket{", "result=\"verified\"");
+		assertHasLine(lines, "auth_bcrypt_seconds_bucket{", "operation=\"encode\"");
+		assertHasLine(lines, "auth_bcrypt_seconds_bucket{", "operation=\"matches\"");
+		assertHasLine(lines, "hikaricp_connections_active{", "pool=");
+	}
+
+	private HttpResponse<String> post(String path, String json) throws Exception {
+		return client.send(HttpRequest.newBuilder(uri(path))
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(json)).build(), HttpResponse.BodyHandlers.ofString());
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:" + port + path);
+	}
+
+	private static void assertHasLine(List<String> lines, String prefix, String label) {
+		assertTrue(lines.stream().anyMatch(line -> line.startsWith(prefix) && line.contains(label)),
+			"No " + prefix + "..." + label + "...} sample in the scrape");
+	}
+}